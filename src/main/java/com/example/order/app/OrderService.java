@@ -4,6 +4,13 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+
+import com.example.order.app.jfr.InventoryReserveEvent;
+import com.example.order.app.jfr.OrderPricedEvent;
+import com.example.order.app.jfr.ProductLookupEvent;
+import com.example.order.app.jfr.TaxCallEvent;
+import com.example.order.app.jfr.ValidationFailureEvent;
 
 import com.example.order.domain.model.Product;
 import com.example.order.domain.policy.DiscountCapPolicy;
@@ -16,6 +23,8 @@ import com.example.order.port.outbound.InventoryService;
 import com.example.order.port.outbound.ProductRepository;
 import com.example.order.port.outbound.TaxCalculator;
 
+import jdk.jfr.FlightRecorder;
+
 
 
 public class OrderService {
@@ -42,17 +51,23 @@ public class OrderService {
 
   public OrderResult placeOrder(OrderRequest req) {
 	  // Ref: 後で全体的にメソッド分割
+	  // JFR: 未初期化時はイベントクラスをロードしない（JDK17では初回ロードでJFR内部が初期化され数百ms掛かる）
+	  OrderPricedEvent pricedEvent = null;
+	  if(jfrInitialized()) {
+		  pricedEvent = new OrderPricedEvent();
+		  pricedEvent.begin();
+	  }
 	  // 引数チェック
 	  if(req == null || req.lines() == null || req.lines().isEmpty()) {
-		  throw new IllegalArgumentException(notNullOrEmptyMsg("lines"));
+		  throw invalid("lines", notNullOrEmptyMsg("lines"));
 	  }
 	  for(Line line : req.lines()) {
 		  if(line.qty() <= 0) {
-			  throw new IllegalArgumentException(notZeroOrMinus("qty"));
+			  throw invalid("qty", notZeroOrMinus("qty"));
 		  }
 	  }
 	  if(req.region() == null || req.region().isBlank()) {
-		  throw new IllegalArgumentException(notNullOrBlankStrings("region"));
+		  throw invalid("region", notNullOrBlankStrings("region"));
 	  }
 	  
 	  BigDecimal orderNetBeforeDiscount = BigDecimal.ZERO;
@@ -60,8 +75,8 @@ public class OrderService {
 	  List<DiscountType> appliedDiscounts = new ArrayList<DiscountType>();
 	  for(Line line : req.lines()) {
 		  // Optional<Product>をここでunwrap
-		  Product product = products.findById(line.productId())
-				  .orElseThrow(() -> new IllegalArgumentException(notFindProduct(line.productId())));
+		  Product product = findProduct(line.productId())
+				  .orElseThrow(() -> invalid("productId", notFindProduct(line.productId())));
 
 		  BigDecimal lineSubtotal = product.unitPrice()
 				  .multiply(BigDecimal.valueOf(line.qty()));
@@ -118,20 +133,131 @@ public class OrderService {
 	  
 	  //在庫確認(仮)
 	  for(Line line : req.lines()) {
-		  inventory.reserve(line.productId(), line.qty());
+		  reserve(line.productId(), line.qty());
 	  }
 
 	  RoundingMode modeOrDefault = (req.mode() == null) ? RoundingMode.HALF_UP : req.mode();
 	  //税計算
-	  totalTax = totalTax.add(tax.calcTaxAmount(totalNetAfterDiscount, req.region(), modeOrDefault));
-	  totalGross = totalGross.add(tax.addTax(totalNetAfterDiscount, req.region(), modeOrDefault));
+	  totalTax = totalTax.add(calcTaxAmount(totalNetAfterDiscount, req.region(), modeOrDefault));
+	  totalGross = totalGross.add(addTax(totalNetAfterDiscount, req.region(), modeOrDefault));
 
 	  OrderResult orderResult = new OrderResult(orderNetBeforeDiscount.setScale(2, RoundingMode.HALF_UP), totalDiscount.setScale(2, RoundingMode.HALF_UP),
 			  totalNetAfterDiscount.setScale(2, RoundingMode.HALF_UP), totalTax.setScale(2, RoundingMode.HALF_UP), totalGross.setScale(0, RoundingMode.HALF_UP), appliedDiscounts);
 
+	  if(pricedEvent != null) {
+		  commitOrderPriced(pricedEvent, req, appliedDiscounts, cappedDiscount.compareTo(rawTotalDiscount) < 0);
+	  }
 	  return orderResult;
   }
 
+  // JFR（FlightRecorder.isInitialized は静的フラグ参照のみでJFRを起動しない）
+  private static boolean jfrInitialized() {
+	  return FlightRecorder.isInitialized();
+  }
+
+  private static void commitOrderPriced(OrderPricedEvent pricedEvent, OrderRequest req, List<DiscountType> appliedDiscounts, boolean capHit) {
+	  pricedEvent.end();
+	  if(pricedEvent.shouldCommit()) {
+		  pricedEvent.lineCount = req.lines().size();
+		  pricedEvent.region = req.region();
+		  pricedEvent.appliedDiscounts = joinDiscounts(appliedDiscounts);
+		  pricedEvent.capHit = capHit;
+		  pricedEvent.commit();
+	  }
+  }
+
+  // 外部呼出（JFRイベント付き）
+  private Optional<Product> findProduct(String productId) {
+	  if(!jfrInitialized()) {
+		  return products.findById(productId);
+	  }
+	  ProductLookupEvent event = new ProductLookupEvent();
+	  event.begin();
+	  Optional<Product> product = products.findById(productId);
+	  event.end();
+	  if(event.shouldCommit()) {
+		  event.productId = productId;
+		  event.found = product.isPresent();
+		  event.commit();
+	  }
+	  return product;
+  }
+
+  private void reserve(String productId, int qty) {
+	  if(!jfrInitialized()) {
+		  inventory.reserve(productId, qty);
+		  return;
+	  }
+	  InventoryReserveEvent event = new InventoryReserveEvent();
+	  event.begin();
+	  inventory.reserve(productId, qty);
+	  event.end();
+	  if(event.shouldCommit()) {
+		  event.productId = productId;
+		  event.qty = qty;
+		  event.commit();
+	  }
+  }
+
+  private BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) {
+	  if(!jfrInitialized()) {
+		  return tax.calcTaxAmount(net, region, mode);
+	  }
+	  TaxCallEvent event = new TaxCallEvent();
+	  event.begin();
+	  BigDecimal amount = tax.calcTaxAmount(net, region, mode);
+	  commitTaxCall(event, "calcTaxAmount", region, mode);
+	  return amount;
+  }
+
+  private BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) {
+	  if(!jfrInitialized()) {
+		  return tax.addTax(net, region, mode);
+	  }
+	  TaxCallEvent event = new TaxCallEvent();
+	  event.begin();
+	  BigDecimal gross = tax.addTax(net, region, mode);
+	  commitTaxCall(event, "addTax", region, mode);
+	  return gross;
+  }
+
+  private static void commitTaxCall(TaxCallEvent event, String operation, String region, RoundingMode mode) {
+	  event.end();
+	  if(event.shouldCommit()) {
+		  event.operation = operation;
+		  event.region = region;
+		  event.mode = mode.name();
+		  event.commit();
+	  }
+  }
+
+  private static IllegalArgumentException invalid(String field, String message) {
+	  if(jfrInitialized()) {
+		  commitValidationFailure(field, message);
+	  }
+	  return new IllegalArgumentException(message);
+  }
+
+  private static void commitValidationFailure(String field, String message) {
+	  ValidationFailureEvent event = new ValidationFailureEvent();
+	  if(event.shouldCommit()) {
+		  event.field = field;
+		  event.message = message;
+		  event.commit();
+	  }
+  }
+
+  private static String joinDiscounts(List<DiscountType> discounts) {
+	  StringBuilder sb = new StringBuilder();
+	  for(DiscountType type : discounts) {
+		  if(sb.length() > 0) {
+			  sb.append(',');
+		  }
+		  sb.append(type.name());
+	  }
+	  return sb.toString();
+  }
+
   // エラーメッセージ定義
   private static String notNullOrEmptyMsg(String fieldName) {
 	  return fieldName + " must not be null or empty";
@@ -0,0 +1,137 @@
+package com.example.order.app.columnar;
+
+import java.math.RoundingMode;
+
+/**
+ * 注文群の列指向（struct-of-arrays）表現。OrderRequest からは ColumnarOrderConverter で、
+ * 既に列で持っているデータからは of で生成する。
+ *
+ * 行（Line）列: productCodes / quantities（長さ lineCount）
+ * 注文列: orderOffsets（長さ orderCount+1、注文 o の行は [orderOffsets[o], orderOffsets[o+1])）/ regionCodes / modes
+ * 辞書: productDictionary / unitPrices（code 添字、単価は PRICE_SCALE 桁の固定小数点）/ regionDictionary
+ */
+public final class ColumnarOrderBatch {
+	public static final int PRICE_SCALE = 2;
+	// 1注文の素合計上限（1e-2 単位）。カーネル内の 1e-8 単位演算が long に収まる範囲。
+	public static final long MAX_ORDER_NET_CENTS = 1_000_000_000_000L;
+
+	final int orderCount;
+	final int lineCount;
+	final int[] orderOffsets;
+	final int[] productCodes;
+	final int[] quantities;
+	final String[] productDictionary;
+	final long[] unitPrices;
+	final int[] regionCodes;
+	final String[] regionDictionary;
+	final RoundingMode[] modes;
+
+	ColumnarOrderBatch(int[] orderOffsets, int[] productCodes, int[] quantities, String[] productDictionary,
+			long[] unitPrices, int[] regionCodes, String[] regionDictionary, RoundingMode[] modes) {
+		this.orderCount = orderOffsets.length - 1;
+		this.lineCount = productCodes.length;
+		this.orderOffsets = orderOffsets;
+		this.productCodes = productCodes;
+		this.quantities = quantities;
+		this.productDictionary = productDictionary;
+		this.unitPrices = unitPrices;
+		this.regionCodes = regionCodes;
+		this.regionDictionary = regionDictionary;
+		this.modes = modes;
+	}
+
+	/**
+	 * 列から直接生成する。配列はコピーせずそのまま保持するため、生成後に呼び出し側で変更しないこと。
+	 * 検証: orderOffsets は 0 始まり・非減少・末尾 lineCount、productCodes / regionCodes は辞書の範囲内、
+	 * quantities > 0、注文ごとの素合計（unitPrices は PRICE_SCALE 桁の固定小数点）の絶対値が MAX_ORDER_NET_CENTS 以下。
+	 * 違反時は IllegalArgumentException。
+	 */
+	public static ColumnarOrderBatch of(int[] orderOffsets, int[] productCodes, int[] quantities, String[] productDictionary,
+			long[] unitPrices, int[] regionCodes, String[] regionDictionary, RoundingMode[] modes) {
+		requireNonNull(orderOffsets, "orderOffsets");
+		requireNonNull(productCodes, "productCodes");
+		requireNonNull(quantities, "quantities");
+		requireNonNull(productDictionary, "productDictionary");
+		requireNonNull(unitPrices, "unitPrices");
+		requireNonNull(regionCodes, "regionCodes");
+		requireNonNull(regionDictionary, "regionDictionary");
+		requireNonNull(modes, "modes");
+		if(orderOffsets.length == 0) {
+			throw new IllegalArgumentException("orderOffsets must not be empty");
+		}
+		int orderCount = orderOffsets.length - 1;
+		int lineCount = productCodes.length;
+		if(quantities.length != lineCount) {
+			throw new IllegalArgumentException("quantities length must equal productCodes length");
+		}
+		if(unitPrices.length != productDictionary.length) {
+			throw new IllegalArgumentException("unitPrices length must equal productDictionary length");
+		}
+		if(regionCodes.length != orderCount || modes.length != orderCount) {
+			throw new IllegalArgumentException("regionCodes and modes length must equal order count");
+		}
+		if(orderOffsets[0] != 0 || orderOffsets[orderCount] != lineCount) {
+			throw new IllegalArgumentException("orderOffsets must start at 0 and end at lineCount");
+		}
+		for(int o = 0; o < orderCount; o++) {
+			if(orderOffsets[o + 1] < orderOffsets[o]) {
+				throw new IllegalArgumentException("orderOffsets must not decrease: index " + o);
+			}
+			if(regionCodes[o] < 0 || regionCodes[o] >= regionDictionary.length) {
+				throw new IllegalArgumentException("region code out of dictionary: index " + o);
+			}
+			long orderNet = 0;
+			for(int i = orderOffsets[o], end = orderOffsets[o + 1]; i < end; i++) {
+				if(productCodes[i] < 0 || productCodes[i] >= unitPrices.length) {
+					throw new IllegalArgumentException("product code out of dictionary: line " + i);
+				}
+				if(quantities[i] <= 0) {
+					throw new IllegalArgumentException("qty must not be zero or minus");
+				}
+				orderNet = addLineNet(orderNet, unitPrices[productCodes[i]], quantities[i], o);
+			}
+		}
+		return new ColumnarOrderBatch(orderOffsets, productCodes, quantities, productDictionary,
+				unitPrices, regionCodes, regionDictionary, modes);
+	}
+
+	// 素合計に1行を加算する（long あふれ・MAX_ORDER_NET_CENTS 超過は範囲外として扱う）
+	static long addLineNet(long orderNet, long unitPrice, int qty, int order) {
+		try {
+			long net = Math.addExact(orderNet, Math.multiplyExact(unitPrice, (long) qty));
+			if(Math.abs(net) <= MAX_ORDER_NET_CENTS) {
+				return net;
+			}
+		} catch (ArithmeticException e) {
+			// 下で範囲外として扱う
+		}
+		throw new IllegalArgumentException("order net exceeds columnar range: index " + order);
+	}
+
+	private static void requireNonNull(Object column, String name) {
+		if(column == null) {
+			throw new IllegalArgumentException(name + " must not be null");
+		}
+	}
+
+	public int orderCount() {
+		return orderCount;
+	}
+
+	public int lineCount() {
+		return lineCount;
+	}
+
+	public int distinctProducts() {
+		return productDictionary.length;
+	}
+
+	public String region(int order) {
+		return regionDictionary[regionCodes[order]];
+	}
+
+	// null（未指定）はそのまま保持し、税計算時に HALF_UP へ解決する
+	public RoundingMode mode(int order) {
+		return modes[order];
+	}
+}
@@ -0,0 +1,149 @@
+package com.example.order.app.columnar;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.order.domain.model.Product;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+import com.example.order.dto.OrderResult;
+import com.example.order.port.outbound.ProductRepository;
+import com.example.order.port.outbound.TaxCalculator;
+
+/**
+ * OrderRequest / OrderResult と列指向表現の相互変換。
+ * 分析用の一括再計算向けのため、在庫引当（InventoryService）は行わない。
+ * 商品は辞書エントリごとに1回だけ ProductRepository から取得する。
+ */
+public final class ColumnarOrderConverter {
+	private static final int INITIAL_DICTIONARY_CAPACITY = 16;
+
+	private ColumnarOrderConverter() {}
+
+	public static ColumnarOrderBatch fromRequests(List<OrderRequest> requests, ProductRepository products) {
+		if(requests == null) {
+			throw new IllegalArgumentException(notNullOrEmptyMsg("requests"));
+		}
+		int orderCount = requests.size();
+		int lineCount = 0;
+		for(OrderRequest req : requests) {
+			validate(req);
+			lineCount += req.lines().size();
+		}
+
+		int[] orderOffsets = new int[orderCount + 1];
+		int[] productCodes = new int[lineCount];
+		int[] quantities = new int[lineCount];
+		int[] regionCodes = new int[orderCount];
+		RoundingMode[] modes = new RoundingMode[orderCount];
+		Map<String, Integer> productIndex = new HashMap<>();
+		List<String> productDictionary = new ArrayList<>();
+		long[] unitPrices = new long[INITIAL_DICTIONARY_CAPACITY];
+		Map<String, Integer> regionIndex = new HashMap<>();
+		List<String> regionDictionary = new ArrayList<>();
+
+		int line = 0;
+		for(int o = 0; o < orderCount; o++) {
+			OrderRequest req = requests.get(o);
+			orderOffsets[o] = line;
+			regionCodes[o] = regionIndex.computeIfAbsent(req.region(), r -> {
+				regionDictionary.add(r);
+				return regionDictionary.size() - 1;
+			});
+			modes[o] = req.mode();
+			long orderNet = 0;
+			for(Line l : req.lines()) {
+				Integer code = productIndex.get(l.productId());
+				if(code == null) {
+					Product product = products.findById(l.productId())
+							.orElseThrow(() -> new IllegalArgumentException(notFindProduct(l.productId())));
+					code = productDictionary.size();
+					productIndex.put(l.productId(), code);
+					productDictionary.add(l.productId());
+					if(code == unitPrices.length) {
+						unitPrices = Arrays.copyOf(unitPrices, code * 2);
+					}
+					unitPrices[code] = toScaledPrice(product);
+				}
+				productCodes[line] = code;
+				quantities[line] = l.qty();
+				orderNet = ColumnarOrderBatch.addLineNet(orderNet, unitPrices[code], l.qty(), o);
+				line++;
+			}
+		}
+		orderOffsets[orderCount] = line;
+
+		// 入力検証・範囲チェックは済んでいるため of を経由しない
+		return new ColumnarOrderBatch(orderOffsets, productCodes, quantities,
+				productDictionary.toArray(new String[0]), Arrays.copyOf(unitPrices, productDictionary.size()), regionCodes,
+				regionDictionary.toArray(new String[0]), modes);
+	}
+
+	/**
+	 * 税計算は注文ごとに TaxCalculator を呼ぶ（placeOrder と同じく丸め前の値・mode null 時 HALF_UP）。
+	 */
+	public static List<OrderResult> toResults(ColumnarOrderBatch batch, ColumnarPricingResult priced, TaxCalculator tax) {
+		List<OrderResult> results = new ArrayList<>(batch.orderCount);
+		for(int o = 0; o < batch.orderCount; o++) {
+			String region = batch.region(o);
+			RoundingMode modeOrDefault = (batch.mode(o) == null) ? RoundingMode.HALF_UP : batch.mode(o);
+			BigDecimal netAfterDiscount = BigDecimal.valueOf(priced.netAfterDiscountExact[o], ColumnarPricingResult.EXACT_SCALE);
+			BigDecimal totalTax = tax.calcTaxAmount(netAfterDiscount, region, modeOrDefault);
+			BigDecimal totalGross = tax.addTax(netAfterDiscount, region, modeOrDefault);
+			results.add(new OrderResult(
+					BigDecimal.valueOf(priced.netBeforeDiscountCents[o], ColumnarOrderBatch.PRICE_SCALE),
+					BigDecimal.valueOf(priced.discountCents[o], ColumnarOrderBatch.PRICE_SCALE),
+					BigDecimal.valueOf(priced.netAfterDiscountCents[o], ColumnarOrderBatch.PRICE_SCALE),
+					totalTax.setScale(2, RoundingMode.HALF_UP),
+					totalGross.setScale(0, RoundingMode.HALF_UP),
+					priced.appliedDiscounts(o)));
+		}
+		return results;
+	}
+
+	private static void validate(OrderRequest req) {
+		if(req == null || req.lines() == null || req.lines().isEmpty()) {
+			throw new IllegalArgumentException(notNullOrEmptyMsg("lines"));
+		}
+		for(Line line : req.lines()) {
+			if(line.qty() <= 0) {
+				throw new IllegalArgumentException(notZeroOrMinus("qty"));
+			}
+		}
+		if(req.region() == null || req.region().isBlank()) {
+			throw new IllegalArgumentException(notNullOrBlankStrings("region"));
+		}
+	}
+
+	private static long toScaledPrice(Product product) {
+		try {
+			return product.unitPrice().setScale(ColumnarOrderBatch.PRICE_SCALE, RoundingMode.UNNECESSARY)
+					.unscaledValue().longValueExact();
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException("unit price not representable at scale "
+					+ ColumnarOrderBatch.PRICE_SCALE + ": " + product.id(), e);
+		}
+	}
+
+	// エラーメッセージ定義（OrderService と同文言）
+	private static String notNullOrEmptyMsg(String fieldName) {
+		return fieldName + " must not be null or empty";
+	}
+
+	private static String notZeroOrMinus(String fieldName) {
+		return fieldName + " must not be zero or minus";
+	}
+
+	private static String notNullOrBlankStrings(String fieldName) {
+		return fieldName + " must not be null or blank strings";
+	}
+
+	private static String notFindProduct(String productId) {
+		return "product not found: " + productId;
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.order.app.columnar;
+
+import java.math.BigDecimal;
+
+import com.example.order.domain.policy.PercentCapPolicy;
+
+/**
+ * 列単位の割引計算カーネル。OrderService.placeOrder と同一の結果（ADR-001 / ADR-004）を
+ * BigDecimal を使わず固定小数点 long で求める。
+ *
+ * 各段の厳密値は次の単位で保持する（割引率が 0.05 / 0.02 / 0.03 なので桁落ちしない）:
+ *   素合計 1e-2, VOLUME 1e-4, MULTI_ITEM 1e-6, HIGH_AMOUNT 1e-8（= EXACT_SCALE）
+ * 行は CHUNK_LINES 行ずつのチャンクで処理し、作業領域はキャッシュに載る大きさで使い回す。
+ * チャンク内では辞書単価の間接参照と int→long 変換を取り出しパスに分離し、行の算術ループは
+ * long 列のみ・閾値判定も符号ビットの 0/1 乗算で分岐なしにしている。
+ * JDK 17 (AVX-512) で -XX:-UseSuperWord と比較した限り、SuperWord の効果が確認できたのは行ループのみ。
+ * 注文側（区間和・long 除算の丸め）はスカラーの1パス。
+ * 全行分の作業列を確保していた旧実装比で、20万注文・210万行の price が 84-94ms → 17-19ms（作業領域 約77 MB → 64 KiB）。
+ * 桁あふれ防止の上限チェックは ColumnarOrderBatch 生成時（of / ColumnarOrderConverter）に行う。
+ */
+public final class ColumnarPricingKernel {
+	// OrderService と同値（ADR-004）
+	static final int VOLUME_DISCOUNT_MIN_QTY = 10;
+	static final long VOLUME_DISCOUNT_RATE_E2 = 5;
+	static final long MULTI_ITEM_DISCOUNT_RATE_E2 = 2;
+	static final long HIGH_AMOUNT_DISCOUNT_RATE_E2 = 3;
+	static final int MULTI_ITEM_DISCOUNT_NUMBER_OF_LINES = 3;
+	static final long HIGH_AMOUNT_DISCOUNT_APPLY_NET_E6 = 100_000L * 1_000_000L;
+
+	// 行の作業領域（long 4列 × 2048 行 = 64 KiB、L2 に収まる大きさ）
+	static final int CHUNK_LINES = 2_048;
+	private static final int SCRATCH_BYTES_PER_LINE = 4 * Long.BYTES;
+	private static final int RESULT_BYTES_PER_ORDER = 4 * Long.BYTES + Byte.BYTES;
+
+	private static final int MAX_CAP_RATE_SCALE = 6;
+
+	private final long capRateUnscaled;
+	private final long capRateDivisor;
+
+	public ColumnarPricingKernel(PercentCapPolicy capPolicy) {
+		this(capPolicy.capRate());
+	}
+
+	public ColumnarPricingKernel(BigDecimal capRate) {
+		if(capRate == null || capRate.signum() < 0 || capRate.compareTo(BigDecimal.ONE) > 0) {
+			throw new IllegalArgumentException("capRate must be between 0 and 1");
+		}
+		BigDecimal normalized = capRate.stripTrailingZeros();
+		if(normalized.scale() < 0) {
+			normalized = normalized.setScale(0);
+		}
+		if(normalized.scale() > MAX_CAP_RATE_SCALE) {
+			throw new IllegalArgumentException("capRate scale must not exceed " + MAX_CAP_RATE_SCALE);
+		}
+		this.capRateUnscaled = normalized.unscaledValue().longValueExact();
+		this.capRateDivisor = pow10(normalized.scale());
+	}
+
+	/**
+	 * 注文を行数 CHUNK_LINES 以内のチャンクに区切って計算する。行列の作業領域（4本の long 列）は
+	 * 呼び出しごとに1回だけ確保してチャンク間で使い回し、注文列は作業領域を持たず結果へ直接書く。
+	 * 1回の呼び出しで必要なメモリは requiredBytes を参照。
+	 */
+	public ColumnarPricingResult price(ColumnarOrderBatch batch) {
+		final int orderCount = batch.orderCount;
+		final int[] codes = batch.productCodes;
+		final int[] qty = batch.quantities;
+		final long[] unitPrices = batch.unitPrices;
+		final int[] offsets = batch.orderOffsets;
+
+		int capacity = scratchLines(batch);
+		long[] linePrice = new long[capacity];
+		long[] lineQty = new long[capacity];
+		long[] lineSubtotal = new long[capacity];
+		long[] lineVolume = new long[capacity];
+		ColumnarPricingResult result = new ColumnarPricingResult(orderCount);
+
+		int first = 0;
+		while(first < orderCount) {
+			// 行数が capacity に収まるまで注文を詰める（1注文は必ず含む）
+			final int base = offsets[first];
+			int last = first + 1;
+			while(last < orderCount && offsets[last + 1] - base <= capacity) {
+				last++;
+			}
+			final int chunkLines = offsets[last] - base;
+
+			// 1) 取り出し: 辞書単価を行ごとの列へ展開し、数量も long 列に揃える（間接参照と int→long 変換をここで済ませる）
+			for(int i = 0; i < chunkLines; i++) {
+				linePrice[i] = unitPrices[codes[base + i]];
+				lineQty[i] = qty[base + i];
+			}
+
+			// 2) 行列: 行小計（1e-2）と VOLUME 割引額（1e-4）。qty>0 前提で (qty-10)>>>63 ^ 1 が qty>=10 の 0/1
+			for(int i = 0; i < chunkLines; i++) {
+				long subtotal = linePrice[i] * lineQty[i];
+				lineSubtotal[i] = subtotal;
+				lineVolume[i] = subtotal * VOLUME_DISCOUNT_RATE_E2 * (((lineQty[i] - VOLUME_DISCOUNT_MIN_QTY) >>> 63) ^ 1);
+			}
+
+			for(int o = first; o < last; o++) {
+				priceOrder(o, offsets[o] - base, offsets[o + 1] - base, lineSubtotal, lineVolume, result);
+			}
+			first = last;
+		}
+		return result;
+	}
+
+	/**
+	 * price 1回あたりのおおよその確保量（バイト）。結果列 33 B/注文 + 行の作業領域 32 B × scratchLines。
+	 * 作業領域は CHUNK_LINES 行分（64 KiB）で一定。これを超える行数の注文がある時だけ、その注文の行数分に広げる。
+	 */
+	public static long requiredBytes(ColumnarOrderBatch batch) {
+		return (long) batch.orderCount * RESULT_BYTES_PER_ORDER + (long) scratchLines(batch) * SCRATCH_BYTES_PER_LINE;
+	}
+
+	// 作業領域の行数: CHUNK_LINES と最大注文行数の大きい方（行数が少なければその分だけ）
+	static int scratchLines(ColumnarOrderBatch batch) {
+		int maxOrderLines = 0;
+		for(int o = 0; o < batch.orderCount; o++) {
+			maxOrderLines = Math.max(maxOrderLines, batch.orderOffsets[o + 1] - batch.orderOffsets[o]);
+		}
+		return Math.min(batch.lineCount, Math.max(CHUNK_LINES, maxOrderLines));
+	}
+
+	// 3) 区間和 → 4) MULTI_ITEM / HIGH_AMOUNT（符号ビットの 0/1 で分岐なし）→ 5) Cap → scale=2 丸め
+	// 注文ループは SuperWord の効果がないためスカラーで1パスにまとめる
+	private void priceOrder(int o, int from, int to, long[] lineSubtotal, long[] lineVolume, ColumnarPricingResult result) {
+		long netE2 = 0;
+		long volumeE4 = 0;
+		for(int i = from; i < to; i++) {
+			netE2 += lineSubtotal[i];
+			volumeE4 += lineVolume[i];
+		}
+		long lines = to - from;
+
+		long afterVolumeE4 = netE2 * 100 - volumeE4;
+		long multiItemE6 = afterVolumeE4 * MULTI_ITEM_DISCOUNT_RATE_E2
+				* (((MULTI_ITEM_DISCOUNT_NUMBER_OF_LINES - 1) - lines) >>> 63);
+		long afterMultiItemE6 = afterVolumeE4 * 100 - multiItemE6;
+		long highAmountE8 = afterMultiItemE6 * HIGH_AMOUNT_DISCOUNT_RATE_E2
+				* (((HIGH_AMOUNT_DISCOUNT_APPLY_NET_E6 - 1) - afterMultiItemE6) >>> 63);
+		long rawDiscountE8 = volumeE4 * 10_000 + multiItemE6 * 100 + highAmountE8;
+
+		long capE8 = halfUp(netE2 * capRateUnscaled, capRateDivisor) * 1_000_000;
+		long cappedE8 = Math.min(rawDiscountE8, capE8);
+		long afterE8 = netE2 * 1_000_000 - cappedE8;
+
+		result.netBeforeDiscountCents[o] = netE2;
+		result.discountCents[o] = halfUp(cappedE8, 1_000_000);
+		result.netAfterDiscountCents[o] = halfUp(afterE8, 1_000_000);
+		result.netAfterDiscountExact[o] = afterE8;
+		result.discountFlags[o] = (byte) ((volumeE4 > 0 ? ColumnarPricingResult.FLAG_VOLUME : 0)
+				| (multiItemE6 > 0 ? ColumnarPricingResult.FLAG_MULTI_ITEM : 0)
+				| (highAmountE8 > 0 ? ColumnarPricingResult.FLAG_HIGH_AMOUNT : 0));
+	}
+
+	// RoundingMode.HALF_UP 相当の整数除算（0から遠い方へ丸める）
+	static long halfUp(long value, long divisor) {
+		long half = divisor / 2;
+		return value >= 0 ? (value + half) / divisor : -((-value + half) / divisor);
+	}
+
+	private static long pow10(int exponent) {
+		long p = 1;
+		for(int i = 0; i < exponent; i++) {
+			p *= 10;
+		}
+		return p;
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.order.app.columnar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.order.dto.DiscountType;
+
+/**
+ * ColumnarPricingKernel の出力列（注文添字）。
+ * 金額は *Cents が scale=2 に HALF_UP 済み、netAfterDiscountExact は丸め前の値（EXACT_SCALE 桁）。
+ */
+public final class ColumnarPricingResult {
+	public static final int EXACT_SCALE = 8;
+
+	static final byte FLAG_VOLUME = 1;
+	static final byte FLAG_MULTI_ITEM = 1 << 1;
+	static final byte FLAG_HIGH_AMOUNT = 1 << 2;
+
+	final long[] netBeforeDiscountCents;
+	final long[] discountCents;
+	final long[] netAfterDiscountCents;
+	final long[] netAfterDiscountExact;
+	final byte[] discountFlags;
+
+	ColumnarPricingResult(int orderCount) {
+		this.netBeforeDiscountCents = new long[orderCount];
+		this.discountCents = new long[orderCount];
+		this.netAfterDiscountCents = new long[orderCount];
+		this.netAfterDiscountExact = new long[orderCount];
+		this.discountFlags = new byte[orderCount];
+	}
+
+	public int orderCount() {
+		return discountFlags.length;
+	}
+
+	public long netBeforeDiscountCents(int order) {
+		return netBeforeDiscountCents[order];
+	}
+
+	public long discountCents(int order) {
+		return discountCents[order];
+	}
+
+	public long netAfterDiscountCents(int order) {
+		return netAfterDiscountCents[order];
+	}
+
+	// 適用順（ADR-004）で返す
+	public List<DiscountType> appliedDiscounts(int order) {
+		byte flags = discountFlags[order];
+		List<DiscountType> applied = new ArrayList<>(3);
+		if((flags & FLAG_VOLUME) != 0) {
+			applied.add(DiscountType.VOLUME);
+		}
+		if((flags & FLAG_MULTI_ITEM) != 0) {
+			applied.add(DiscountType.MULTI_ITEM);
+		}
+		if((flags & FLAG_HIGH_AMOUNT) != 0) {
+			applied.add(DiscountType.HIGH_AMOUNT);
+		}
+		return applied;
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.order.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * InventoryService.reserve 1回分。
+ */
+@Name("com.example.order.InventoryReserve")
+@Label("Inventory Reserve")
+@Category({"Order Pricing", "Outbound"})
+@StackTrace(false)
+public class InventoryReserveEvent extends jdk.jfr.Event {
+	@Label("Product ID")
+	public String productId;
+
+	@Label("Quantity")
+	public int qty;
+}
@@ -0,0 +1,31 @@
+package com.example.order.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * placeOrder 1回分（検証〜税計算まで）の所要時間と結果概要。
+ */
+@Name("com.example.order.OrderPriced")
+@Label("Order Priced")
+@Category({"Order Pricing"})
+@Description("placeOrder の全体所要時間と適用割引")
+@StackTrace(false)
+public class OrderPricedEvent extends jdk.jfr.Event {
+	@Label("Line Count")
+	public int lineCount;
+
+	@Label("Region")
+	public String region;
+
+	@Label("Applied Discounts")
+	@Description("DiscountType をカンマ区切りで列挙（ADR-004 の適用順）")
+	public String appliedDiscounts;
+
+	@Label("Cap Hit")
+	@Description("CapPolicy により割引が切り詰められた場合 true")
+	public boolean capHit;
+}
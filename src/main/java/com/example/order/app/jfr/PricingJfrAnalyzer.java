@@ -0,0 +1,95 @@
+package com.example.order.app.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * .jfr ファイルから Order Pricing 系イベントを読み、ステージ別レイテンシを要約する。
+ * 使い方: java -cp target/classes com.example.order.app.jfr.PricingJfrAnalyzer recording.jfr
+ */
+public final class PricingJfrAnalyzer {
+	private static final String EVENT_PREFIX = "com.example.order.";
+
+	private PricingJfrAnalyzer() {}
+
+	private static final String TAX_CALL = "TaxCall";
+	private static final String VALIDATION_FAILURE = "ValidationFailure";
+
+	public record StageSummary(String stage, long count, Duration total, Duration p50, Duration p99, Duration max) {}
+
+	/**
+	 * stages: 所要時間を持つステージ（TaxCall は operation 別に "TaxCall.calcTaxAmount" / "TaxCall.addTax"）
+	 * validationFailures: 瞬間イベント ValidationFailure の field 別件数（レイテンシ集計には含めない）
+	 */
+	public record Analysis(Map<String, StageSummary> stages, Map<String, Long> validationFailures) {}
+
+	public static Analysis analyze(Path recording) throws IOException {
+		Map<String, List<Duration>> byStage = new TreeMap<>();
+		Map<String, Long> validationFailures = new TreeMap<>();
+		try (RecordingFile file = new RecordingFile(recording)) {
+			while (file.hasMoreEvents()) {
+				RecordedEvent event = file.readEvent();
+				String name = event.getEventType().getName();
+				if (!name.startsWith(EVENT_PREFIX)) {
+					continue;
+				}
+				String stage = name.substring(EVENT_PREFIX.length());
+				if (stage.equals(VALIDATION_FAILURE)) {
+					validationFailures.merge(String.valueOf(event.getString("field")), 1L, Long::sum);
+					continue;
+				}
+				if (stage.equals(TAX_CALL)) {
+					stage = TAX_CALL + "." + event.getString("operation");
+				}
+				byStage.computeIfAbsent(stage, k -> new ArrayList<>()).add(event.getDuration());
+			}
+		}
+		Map<String, StageSummary> stages = new TreeMap<>();
+		for (Map.Entry<String, List<Duration>> e : byStage.entrySet()) {
+			List<Duration> durations = e.getValue();
+			Collections.sort(durations);
+			Duration total = Duration.ZERO;
+			for (Duration d : durations) {
+				total = total.plus(d);
+			}
+			stages.put(e.getKey(), new StageSummary(e.getKey(), durations.size(), total,
+					percentile(durations, 0.50), percentile(durations, 0.99), durations.get(durations.size() - 1)));
+		}
+		return new Analysis(stages, validationFailures);
+	}
+
+	// nearest-rank 法（ソート済み前提）
+	static Duration percentile(List<Duration> sorted, double p) {
+		int rank = (int) Math.ceil(p * sorted.size());
+		return sorted.get(Math.max(0, rank - 1));
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("usage: PricingJfrAnalyzer <recording.jfr>");
+			System.exit(2);
+		}
+		Analysis analysis = analyze(Path.of(args[0]));
+		System.out.printf("%-26s %10s %14s %12s %12s %12s%n", "stage", "count", "total(us)", "p50(us)", "p99(us)", "max(us)");
+		for (StageSummary s : analysis.stages().values()) {
+			System.out.printf("%-26s %10d %14.3f %12.3f %12.3f %12.3f%n", s.stage(), s.count(),
+					micros(s.total()), micros(s.p50()), micros(s.p99()), micros(s.max()));
+		}
+		long failures = analysis.validationFailures().values().stream().mapToLong(Long::longValue).sum();
+		System.out.printf("%nvalidation failures: %d %s%n", failures, analysis.validationFailures());
+	}
+
+	// ns 精度を残す（短いステージが 0us に丸められないように）
+	private static double micros(Duration d) {
+		return d.toNanos() / 1_000.0;
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.order.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * ProductRepository.findById 1回分。
+ */
+@Name("com.example.order.ProductLookup")
+@Label("Product Lookup")
+@Category({"Order Pricing", "Outbound"})
+@StackTrace(false)
+public class ProductLookupEvent extends jdk.jfr.Event {
+	@Label("Product ID")
+	public String productId;
+
+	@Label("Found")
+	public boolean found;
+}
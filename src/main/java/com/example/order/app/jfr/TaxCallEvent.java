@@ -0,0 +1,24 @@
+package com.example.order.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * TaxCalculator 呼出1回分（calcTaxAmount / addTax を operation で区別）。
+ */
+@Name("com.example.order.TaxCall")
+@Label("Tax Call")
+@Category({"Order Pricing", "Outbound"})
+@StackTrace(false)
+public class TaxCallEvent extends jdk.jfr.Event {
+	@Label("Operation")
+	public String operation;
+
+	@Label("Region")
+	public String region;
+
+	@Label("Rounding Mode")
+	public String mode;
+}
@@ -0,0 +1,19 @@
+package com.example.order.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 引数チェック / 商品未取得で IllegalArgumentException を投げる直前に記録する。
+ */
+@Name("com.example.order.ValidationFailure")
+@Label("Validation Failure")
+@Category({"Order Pricing"})
+public class ValidationFailureEvent extends jdk.jfr.Event {
+	@Label("Field")
+	public String field;
+
+	@Label("Message")
+	public String message;
+}
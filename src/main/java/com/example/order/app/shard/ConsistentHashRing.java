@@ -0,0 +1,87 @@
+package com.example.order.app.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 仮想ノード付きコンシステントハッシュリング（不変）。
+ * ノードの追加/削除は新しいリングを返すため、参照を差し替えるだけでルーティング中のスレッドに影響しない。
+ */
+public final class ConsistentHashRing {
+	private final int virtualNodes;
+	private final NavigableMap<Long, String> ring;
+	private final Set<String> nodes;
+
+	public ConsistentHashRing(int virtualNodes) {
+		this(virtualNodes, new TreeMap<>(), new TreeSet<>());
+	}
+
+	private ConsistentHashRing(int virtualNodes, NavigableMap<Long, String> ring, Set<String> nodes) {
+		if(virtualNodes <= 0) {
+			throw new IllegalArgumentException("virtualNodes must not be zero or minus");
+		}
+		this.virtualNodes = virtualNodes;
+		this.ring = Collections.unmodifiableNavigableMap(ring);
+		this.nodes = Collections.unmodifiableSet(nodes);
+	}
+
+	public ConsistentHashRing withNode(String nodeId) {
+		if(nodes.contains(nodeId)) {
+			return this;
+		}
+		TreeMap<Long, String> next = new TreeMap<>(ring);
+		for(int i = 0; i < virtualNodes; i++) {
+			next.putIfAbsent(hash(nodeId + "#" + i), nodeId);
+		}
+		Set<String> nextNodes = new TreeSet<>(nodes);
+		nextNodes.add(nodeId);
+		return new ConsistentHashRing(virtualNodes, next, nextNodes);
+	}
+
+	public ConsistentHashRing withoutNode(String nodeId) {
+		if(!nodes.contains(nodeId)) {
+			return this;
+		}
+		TreeMap<Long, String> next = new TreeMap<>(ring);
+		next.values().removeIf(nodeId::equals);
+		Set<String> nextNodes = new TreeSet<>(nodes);
+		nextNodes.remove(nodeId);
+		return new ConsistentHashRing(virtualNodes, next, nextNodes);
+	}
+
+	public String nodeFor(String key) {
+		if(ring.isEmpty()) {
+			throw new IllegalStateException("no pricing nodes available");
+		}
+		Map.Entry<Long, String> e = ring.ceilingEntry(hash(key));
+		return (e != null ? e : ring.firstEntry()).getValue();
+	}
+
+	public boolean contains(String nodeId) {
+		return nodes.contains(nodeId);
+	}
+
+	public Set<String> nodes() {
+		return nodes;
+	}
+
+	// FNV-1a 64bit + splitmix64 最終化（短いキーでも分散させる）
+	static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for(byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			h ^= (b & 0xff);
+			h *= 0x100000001b3L;
+		}
+		h ^= (h >>> 30);
+		h *= 0xbf58476d1ce4e5b9L;
+		h ^= (h >>> 27);
+		h *= 0x94d049bb133111ebL;
+		h ^= (h >>> 31);
+		return h;
+	}
+}
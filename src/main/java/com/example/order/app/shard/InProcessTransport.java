@@ -0,0 +1,71 @@
+package com.example.order.app.shard;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.example.order.app.OrderService;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderResult;
+
+/**
+ * 同一JVM内の OrderService をノードとして扱う Transport（単体テスト・1台検証用）。
+ * ノードごとに専用スレッドプールを持ち、別プロセスのノードと同様に互いの処理が独立する。
+ */
+public class InProcessTransport implements PricingTransport, AutoCloseable {
+	private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+
+	private record Node(OrderService service, ExecutorService executor) {}
+
+	public void register(String nodeId, OrderService service) {
+		register(nodeId, service, 1);
+	}
+
+	public void register(String nodeId, OrderService service, int threads) {
+		if(threads <= 0) {
+			throw new IllegalArgumentException("threads must not be zero or minus");
+		}
+		Node node = new Node(service, Executors.newFixedThreadPool(threads, r -> {
+			Thread t = new Thread(r, "pricing-node-" + nodeId);
+			t.setDaemon(true);
+			return t;
+		}));
+		if(nodes.putIfAbsent(nodeId, node) != null) {
+			node.executor().shutdownNow();
+			throw new IllegalArgumentException("pricing node already registered: " + nodeId);
+		}
+	}
+
+	/**
+	 * 受付済みの注文は最後まで処理し、新規の配送は拒否する。
+	 */
+	public void unregister(String nodeId) {
+		Node node = nodes.remove(nodeId);
+		if(node != null) {
+			node.executor().shutdown();
+		}
+	}
+
+	@Override
+	public CompletableFuture<OrderResult> dispatch(String nodeId, OrderRequest request) {
+		Node node = nodes.get(nodeId);
+		if(node == null) {
+			return CompletableFuture.failedFuture(new IllegalStateException("unknown pricing node: " + nodeId));
+		}
+		try {
+			return CompletableFuture.supplyAsync(() -> node.service().placeOrder(request), node.executor());
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(new IllegalStateException("pricing node is shutting down: " + nodeId, e));
+		}
+	}
+
+	@Override
+	public void close() {
+		for(String nodeId : nodes.keySet()) {
+			unregister(nodeId);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.example.order.app.shard;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderResult;
+
+/**
+ * ルーターから価格計算ノードへの配送手段。
+ * 失敗（未登録ノード・ノード側例外）は例外完了した Future で返す。
+ */
+public interface PricingTransport {
+	CompletableFuture<OrderResult> dispatch(String nodeId, OrderRequest request);
+}
@@ -0,0 +1,14 @@
+package com.example.order.app.shard;
+
+/**
+ * シャード（ノード）単位の負荷スナップショット。
+ * totalLatencyNanos は完了分（成功・失敗とも）のルーター観測レイテンシ合計。
+ */
+public record ShardMetrics(String nodeId, boolean active, long inFlight, long dispatched,
+		long completed, long failed, long totalLatencyNanos) {
+
+	public double meanLatencyMicros() {
+		long done = completed + failed;
+		return done == 0 ? 0.0 : totalLatencyNanos / 1_000.0 / done;
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.order.app.shard;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderResult;
+
+/**
+ * OrderRequest を region でシャーディングして価格計算ノードへ振り分けるルーター。
+ *
+ * リバランス時の取りこぼし防止:
+ *  - リングは不変オブジェクトで、追加/削除は参照の差し替えのみ。
+ *  - 配送前にノードの inFlight を加算し、その後リングにまだ居るか再確認する（居なければ戻して再ルーティング）。
+ *  - removeNode はリングから外した後、inFlight が 0 になった時点で完了する Future を返す。
+ *    Transport 側のノード停止はこの Future の完了後に行う。
+ */
+public class ShardedPricingRouter {
+	public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+	private final PricingTransport transport;
+	private final Map<String, ShardState> shards = new ConcurrentHashMap<>();
+	private volatile ConsistentHashRing ring;
+
+	public ShardedPricingRouter(PricingTransport transport) {
+		this(transport, DEFAULT_VIRTUAL_NODES);
+	}
+
+	public ShardedPricingRouter(PricingTransport transport, int virtualNodes) {
+		this.transport = transport;
+		this.ring = new ConsistentHashRing(virtualNodes);
+	}
+
+	public synchronized void addNode(String nodeId) {
+		ShardState previous = shards.get(nodeId);
+		if(previous != null && !previous.removed) {
+			return;
+		}
+		shards.put(nodeId, new ShardState());
+		ring = ring.withNode(nodeId);
+	}
+
+	public synchronized CompletableFuture<Void> removeNode(String nodeId) {
+		ShardState state = shards.get(nodeId);
+		if(state == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		state.removed = true;
+		ring = ring.withoutNode(nodeId);
+		state.completeDrainIfIdle();
+		return state.drained;
+	}
+
+	public String nodeFor(String region) {
+		return ring.nodeFor(region);
+	}
+
+	public CompletableFuture<OrderResult> route(OrderRequest request) {
+		if(request == null || request.region() == null || request.region().isBlank()) {
+			return CompletableFuture.failedFuture(new IllegalArgumentException("region must not be null or blank strings"));
+		}
+		while(true) {
+			String nodeId;
+			try {
+				nodeId = ring.nodeFor(request.region());
+			} catch (IllegalStateException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+			ShardState state = shards.get(nodeId);
+			state.inFlight.incrementAndGet();
+			if(!ring.contains(nodeId)) {
+				// 読み取り後に外されたノード：戻して新しいリングで選び直す
+				state.release();
+				continue;
+			}
+			state.dispatched.incrementAndGet();
+			long start = System.nanoTime();
+			CompletableFuture<OrderResult> result;
+			try {
+				result = transport.dispatch(nodeId, request);
+			} catch (RuntimeException e) {
+				result = CompletableFuture.failedFuture(e);
+			}
+			return result.whenComplete((r, ex) -> {
+				state.totalLatencyNanos.addAndGet(System.nanoTime() - start);
+				(ex == null ? state.completed : state.failed).incrementAndGet();
+				state.release();
+			});
+		}
+	}
+
+	public Map<String, ShardMetrics> metrics() {
+		Map<String, ShardMetrics> snapshot = new TreeMap<>();
+		ConsistentHashRing current = ring;
+		shards.forEach((nodeId, s) -> snapshot.put(nodeId, new ShardMetrics(nodeId, current.contains(nodeId),
+				s.inFlight.get(), s.dispatched.get(), s.completed.get(), s.failed.get(), s.totalLatencyNanos.get())));
+		return snapshot;
+	}
+
+	private static final class ShardState {
+		final AtomicLong inFlight = new AtomicLong();
+		final AtomicLong dispatched = new AtomicLong();
+		final AtomicLong completed = new AtomicLong();
+		final AtomicLong failed = new AtomicLong();
+		final AtomicLong totalLatencyNanos = new AtomicLong();
+		final CompletableFuture<Void> drained = new CompletableFuture<>();
+		volatile boolean removed;
+
+		void release() {
+			if(inFlight.decrementAndGet() == 0) {
+				completeDrainIfIdle();
+			}
+		}
+
+		void completeDrainIfIdle() {
+			if(removed && inFlight.get() == 0) {
+				drained.complete(null);
+			}
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.order.app.soak;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+/**
+ * GC 通知から停止時間（並行フェーズを除く）を集計し、GC後ヒープ使用量を返す。
+ */
+final class GcPauseMonitor implements NotificationListener, AutoCloseable {
+	private final List<NotificationEmitter> emitters = new ArrayList<>();
+	private final AtomicLong pauses = new AtomicLong();
+	private final AtomicLong pauseMillis = new AtomicLong();
+	private final AtomicLong maxPauseMillis = new AtomicLong();
+
+	record Snapshot(long pauses, long pauseMillis, long maxPauseMillis) {}
+
+	GcPauseMonitor() {
+		for(GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if(gc instanceof NotificationEmitter emitter) {
+				emitter.addNotificationListener(this, null, null);
+				emitters.add(emitter);
+			}
+		}
+	}
+
+	@Override
+	public void handleNotification(Notification notification, Object handback) {
+		if(!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+			return;
+		}
+		GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+		if(!isPause(info.getGcName(), info.getGcAction())) {
+			return;
+		}
+		long duration = info.getGcInfo().getDuration();
+		pauses.incrementAndGet();
+		pauseMillis.addAndGet(duration);
+		maxPauseMillis.accumulateAndGet(duration, Math::max);
+	}
+
+	// 並行GCのサイクル全体（ZGC/Shenandoah の "... Cycles"、G1 の "... Concurrent GC"）は停止時間ではない
+	static boolean isPause(String gcName, String gcAction) {
+		return !gcName.endsWith("Cycles")
+				&& !gcName.contains("Concurrent")
+				&& !gcAction.contains("concurrent")
+				&& !gcAction.equals("end of GC cycle");
+	}
+
+	// 区間分を取り出してリセット
+	Snapshot drain() {
+		return new Snapshot(pauses.getAndSet(0), pauseMillis.getAndSet(0), maxPauseMillis.getAndSet(0));
+	}
+
+	// 直近GC後のヒープ使用量（リーク検知用、GC未発生なら 0）
+	static long heapUsedAfterGc() {
+		long used = 0;
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() != MemoryType.HEAP) {
+				continue;
+			}
+			MemoryUsage afterGc = pool.getCollectionUsage();
+			used += (afterGc != null) ? afterGc.getUsed() : pool.getUsage().getUsed();
+		}
+		return used;
+	}
+
+	static long heapUsed() {
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+
+	@Override
+	public void close() {
+		for(NotificationEmitter emitter : emitters) {
+			try {
+				emitter.removeNotificationListener(this);
+			} catch (ListenerNotFoundException ignored) {
+				// 登録済みのもののみ解除
+			}
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.order.app.soak;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 対数線形バケットのレイテンシヒストグラム（ns、相対誤差 約3%）。
+ * 長時間のソークでも全サンプルを保持せずにパーセンタイルを求めるために使う。
+ * record は複数スレッドから、drainTo は集計スレッド1本から呼ぶ前提。
+ */
+final class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	void record(long nanos) {
+		counts.incrementAndGet(index(Math.max(0, nanos)));
+	}
+
+	// 区間分を取り出してリセットし、累積側にも加算する
+	long[] drainTo(long[] cumulative) {
+		long[] snapshot = new long[BUCKETS];
+		for(int i = 0; i < BUCKETS; i++) {
+			long c = counts.getAndSet(i, 0);
+			snapshot[i] = c;
+			cumulative[i] += c;
+		}
+		return snapshot;
+	}
+
+	static int index(long value) {
+		if(value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	// バケット上端（保守的な値）
+	static long upperBound(int index) {
+		if(index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long sub = index % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+	}
+
+	static long total(long[] counts) {
+		long total = 0;
+		for(long c : counts) {
+			total += c;
+		}
+		return total;
+	}
+
+	static long percentile(long[] counts, double p) {
+		long total = total(counts);
+		if(total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(p * total));
+		long seen = 0;
+		for(int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if(seen >= rank) {
+				return upperBound(i);
+			}
+		}
+		return upperBound(counts.length - 1);
+	}
+}
@@ -0,0 +1,47 @@
+package com.example.order.app.soak;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.order.domain.model.Product;
+import com.example.order.port.outbound.InventoryService;
+import com.example.order.port.outbound.ProductRepository;
+import com.example.order.port.outbound.TaxCalculator;
+
+/**
+ * ソーク試験用の遅延注入スタブポート群（いずれもスレッドセーフ）。
+ */
+public final class LatencyInjectingPorts {
+	private LatencyInjectingPorts() {}
+
+	public static ProductRepository products(Map<String, BigDecimal> catalog, PortLatency latency) {
+		Map<String, BigDecimal> prices = Map.copyOf(catalog);
+		return productId -> {
+			latency.pause();
+			BigDecimal price = prices.get(productId);
+			return price == null ? Optional.empty() : Optional.of(new Product(productId, price));
+		};
+	}
+
+	public static InventoryService inventory(PortLatency latency) {
+		return (productId, qty) -> latency.pause();
+	}
+
+	public static TaxCalculator tax(BigDecimal rate, PortLatency latency) {
+		return new TaxCalculator() {
+			@Override
+			public BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) {
+				latency.pause();
+				return net.multiply(rate).setScale(2, mode);
+			}
+
+			@Override
+			public BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) {
+				latency.pause();
+				return net.add(net.multiply(rate)).setScale(0, mode);
+			}
+		};
+	}
+}
@@ -0,0 +1,29 @@
+package com.example.order.app.soak;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * スタブポートに注入する遅延: base + [0, jitter) の一様乱数。
+ */
+public record PortLatency(Duration base, Duration jitter) {
+	public static final PortLatency NONE = new PortLatency(Duration.ZERO, Duration.ZERO);
+
+	public PortLatency {
+		if(base == null || jitter == null || base.isNegative() || jitter.isNegative()) {
+			throw new IllegalArgumentException("latency must not be null or minus");
+		}
+	}
+
+	void pause() {
+		long nanos = base.toNanos();
+		long jitterNanos = jitter.toNanos();
+		if(jitterNanos > 0) {
+			nanos += ThreadLocalRandom.current().nextLong(jitterNanos);
+		}
+		if(nanos > 0) {
+			LockSupport.parkNanos(nanos);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.order.app.soak;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.example.order.app.workload.WorkloadProfile;
+
+/**
+ * ソーク試験の実行条件。
+ * 結果を比較できるかの判定に使う項目は baselineKeys で properties 形式（config.* キー）に書き出す。
+ */
+public record SoakConfig(
+		Duration duration,
+		Duration reportInterval,
+		int threads,
+		WorkloadProfile profile,
+		long seed,
+		PortLatency productLatency,
+		PortLatency inventoryLatency,
+		PortLatency taxLatency,
+		BigDecimal taxRate) {
+
+	public SoakConfig {
+		if(duration == null || reportInterval == null || duration.isNegative() || duration.isZero()
+				|| reportInterval.isNegative() || reportInterval.isZero()) {
+			throw new IllegalArgumentException("duration and reportInterval must not be null, zero or minus");
+		}
+		if(threads <= 0) {
+			throw new IllegalArgumentException("threads must not be zero or minus");
+		}
+		if(profile == null || productLatency == null || inventoryLatency == null || taxLatency == null || taxRate == null) {
+			throw new IllegalArgumentException("profile, latencies and taxRate must not be null");
+		}
+	}
+
+	public static SoakConfig defaults() {
+		return new SoakConfig(Duration.ofHours(2), Duration.ofMinutes(1), Runtime.getRuntime().availableProcessors(),
+				WorkloadProfile.defaults(), 42L,
+				new PortLatency(Duration.ofNanos(200_000), Duration.ofNanos(300_000)),
+				new PortLatency(Duration.ofNanos(500_000), Duration.ofNanos(1_000_000)),
+				new PortLatency(Duration.ofNanos(300_000), Duration.ofNanos(500_000)),
+				new BigDecimal("0.10"));
+	}
+
+	/**
+	 * ベースラインに保存する実行条件。region 比率は region 名順に並べ、JVM をまたいで同じ文字列になるようにする。
+	 */
+	public Map<String, String> baselineKeys() {
+		Map<String, String> keys = new TreeMap<>();
+		keys.put("config.duration", duration.toString());
+		keys.put("config.reportInterval", reportInterval.toString());
+		keys.put("config.threads", Integer.toString(threads));
+		keys.put("config.seed", Long.toString(seed));
+		keys.put("config.productLatency", latencyOf(productLatency));
+		keys.put("config.inventoryLatency", latencyOf(inventoryLatency));
+		keys.put("config.taxLatency", latencyOf(taxLatency));
+		keys.put("config.taxRate", taxRate.toPlainString());
+		keys.put("config.profile.catalogSize", Integer.toString(profile.catalogSize()));
+		keys.put("config.profile.zipfExponent", Double.toString(profile.zipfExponent()));
+		keys.put("config.profile.lines", profile.minLines() + ".." + profile.maxLines());
+		keys.put("config.profile.linesTailAlpha", Double.toString(profile.linesTailAlpha()));
+		keys.put("config.profile.volumeBoundaryShare", Double.toString(profile.volumeBoundaryShare()));
+		keys.put("config.profile.volumeBoundarySpread", Integer.toString(profile.volumeBoundarySpread()));
+		keys.put("config.profile.maxBaseQty", Integer.toString(profile.maxBaseQty()));
+		keys.put("config.profile.regionMix", new TreeMap<>(profile.regionMix()).entrySet().stream()
+				.map(e -> e.getKey() + ":" + e.getValue()).collect(Collectors.joining(",")));
+		keys.put("config.profile.highAmountShare", Double.toString(profile.highAmountShare()));
+		return keys;
+	}
+
+	/**
+	 * baseline の実行条件（config.* キー）と異なる項目を返す。空なら比較可能。
+	 */
+	public List<String> mismatchesAgainst(Map<String, String> baseline) {
+		List<String> mismatches = new ArrayList<>();
+		baselineKeys().forEach((key, current) -> {
+			String saved = baseline.get(key);
+			if(!current.equals(saved)) {
+				mismatches.add(String.format("%s: baseline %s, current %s", key, saved == null ? "(missing)" : saved, current));
+			}
+		});
+		return mismatches;
+	}
+
+	private static String latencyOf(PortLatency latency) {
+		return latency.base() + "+" + latency.jitter();
+	}
+}
@@ -0,0 +1,147 @@
+package com.example.order.app.soak;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * ソーク試験の結果（区間ごとの推移 + 全体サマリ）。
+ * Summary はベースラインとして properties 形式で保存・比較できる。
+ * ベースラインには実行条件（SoakConfig.baselineKeys）も保存し、条件が異なる結果とは比較しない。
+ */
+public record SoakReport(List<Interval> intervals, Summary summary) {
+	// ヒープ増加量の比較で無視するゆらぎ
+	static final long HEAP_GROWTH_NOISE_BYTES = 16L * 1024 * 1024;
+
+	public SoakReport {
+		intervals = List.copyOf(intervals);
+	}
+
+	public record Interval(
+			Duration elapsed,
+			long orders,
+			long errors,
+			double throughputPerSec,
+			long p50Micros,
+			long p99Micros,
+			long maxMicros,
+			long gcPauses,
+			long gcPauseMillis,
+			long gcMaxPauseMillis,
+			long heapUsedBytes,
+			long heapAfterGcBytes) {
+
+		@Override
+		public String toString() {
+			return String.format("t=%6ds orders=%9d err=%d tput=%9.1f/s p50=%6dus p99=%6dus max=%7dus gc=%d/%dms(max %dms) heap=%dMB afterGC=%dMB",
+					elapsed.toSeconds(), orders, errors, throughputPerSec, p50Micros, p99Micros, maxMicros,
+					gcPauses, gcPauseMillis, gcMaxPauseMillis, heapUsedBytes >> 20, heapAfterGcBytes >> 20);
+		}
+	}
+
+	public record Summary(
+			long orders,
+			long errors,
+			double throughputPerSec,
+			long p50Micros,
+			long p95Micros,
+			long p99Micros,
+			long maxMicros,
+			long gcPauses,
+			long gcPauseMillis,
+			long gcMaxPauseMillis,
+			long heapGrowthBytes) {
+
+		/**
+		 * baseline に対し tolerance（例 0.10 = 10%）を超えて悪化した項目を返す。空なら合格。
+		 */
+		public List<String> regressionsAgainst(Summary baseline, double tolerance) {
+			List<String> regressions = new ArrayList<>();
+			if(throughputPerSec < baseline.throughputPerSec * (1 - tolerance)) {
+				regressions.add(String.format("throughput %.1f/s < baseline %.1f/s", throughputPerSec, baseline.throughputPerSec));
+			}
+			if(p99Micros > baseline.p99Micros * (1 + tolerance)) {
+				regressions.add(String.format("p99 %dus > baseline %dus", p99Micros, baseline.p99Micros));
+			}
+			if(gcMaxPauseMillis > baseline.gcMaxPauseMillis * (1 + tolerance)) {
+				regressions.add(String.format("max GC pause %dms > baseline %dms", gcMaxPauseMillis, baseline.gcMaxPauseMillis));
+			}
+			if(heapGrowthBytes > Math.max(baseline.heapGrowthBytes, 0) * (1 + tolerance) + HEAP_GROWTH_NOISE_BYTES) {
+				regressions.add(String.format("heap growth %dMB > baseline %dMB", heapGrowthBytes >> 20, baseline.heapGrowthBytes >> 20));
+			}
+			if(errors > baseline.errors) {
+				regressions.add(String.format("errors %d > baseline %d", errors, baseline.errors));
+			}
+			return regressions;
+		}
+
+		public void store(Path path, SoakConfig config) throws IOException {
+			Properties p = new Properties();
+			config.baselineKeys().forEach(p::setProperty);
+			p.setProperty("orders", Long.toString(orders));
+			p.setProperty("errors", Long.toString(errors));
+			p.setProperty("throughputPerSec", Double.toString(throughputPerSec));
+			p.setProperty("p50Micros", Long.toString(p50Micros));
+			p.setProperty("p95Micros", Long.toString(p95Micros));
+			p.setProperty("p99Micros", Long.toString(p99Micros));
+			p.setProperty("maxMicros", Long.toString(maxMicros));
+			p.setProperty("gcPauses", Long.toString(gcPauses));
+			p.setProperty("gcPauseMillis", Long.toString(gcPauseMillis));
+			p.setProperty("gcMaxPauseMillis", Long.toString(gcMaxPauseMillis));
+			p.setProperty("heapGrowthBytes", Long.toString(heapGrowthBytes));
+			try (Writer w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				p.store(w, "OrderService soak baseline");
+			}
+		}
+
+		public static Summary load(Path path) throws IOException {
+			Properties p = new Properties();
+			try (Reader r = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+				p.load(r);
+			}
+			return new Summary(
+					longOf(p, "orders"), longOf(p, "errors"), Double.parseDouble(required(p, "throughputPerSec")),
+					longOf(p, "p50Micros"), longOf(p, "p95Micros"), longOf(p, "p99Micros"), longOf(p, "maxMicros"),
+					longOf(p, "gcPauses"), longOf(p, "gcPauseMillis"), longOf(p, "gcMaxPauseMillis"),
+					longOf(p, "heapGrowthBytes"));
+		}
+
+		/**
+		 * ベースラインに保存された実行条件（config.* キー）を読む。
+		 */
+		public static Map<String, String> loadConfig(Path path) throws IOException {
+			Properties p = new Properties();
+			try (Reader r = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+				p.load(r);
+			}
+			Map<String, String> config = new TreeMap<>();
+			for(String key : p.stringPropertyNames()) {
+				if(key.startsWith("config.")) {
+					config.put(key, p.getProperty(key));
+				}
+			}
+			return config;
+		}
+
+		private static long longOf(Properties p, String key) {
+			return Long.parseLong(required(p, key));
+		}
+
+		private static String required(Properties p, String key) {
+			String value = p.getProperty(key);
+			if(value == null) {
+				throw new IllegalArgumentException("baseline is missing key: " + key);
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.example.order.app.soak;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.example.order.app.OrderService;
+import com.example.order.app.workload.WorkloadGenerator;
+import com.example.order.dto.OrderRequest;
+
+/**
+ * OrderService を遅延注入スタブポート + 合成ワークロードで長時間駆動し、
+ * スループット・レイテンシ分位点の推移・GC停止・ヒープ増加を報告する。
+ *
+ * 例:
+ *   java -cp target/classes com.example.order.app.soak.SoakRunner duration=PT4H interval=PT1M threads=8 \
+ *     baseline=soak-baseline.properties tolerance=0.10
+ *   （save-baseline=path で今回のサマリと実行条件をベースラインとして保存。baseline と実行条件が異なれば実行せず終了コード 2）
+ */
+public class SoakRunner {
+	private final SoakConfig config;
+
+	public SoakRunner(SoakConfig config) {
+		this.config = config;
+	}
+
+	public SoakReport run() throws InterruptedException {
+		return run(interval -> {});
+	}
+
+	public SoakReport run(Consumer<SoakReport.Interval> listener) throws InterruptedException {
+		WorkloadGenerator catalogSource = new WorkloadGenerator(config.profile(), config.seed());
+		OrderService service = new OrderService(
+				LatencyInjectingPorts.products(catalogSource.catalog(), config.productLatency()),
+				LatencyInjectingPorts.inventory(config.inventoryLatency()),
+				LatencyInjectingPorts.tax(config.taxRate(), config.taxLatency()));
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		long[] cumulative = new long[LatencyHistogram.BUCKETS];
+		LongAdder orders = new LongAdder();
+		LongAdder errors = new LongAdder();
+		AtomicLong maxNanos = new AtomicLong();
+		List<SoakReport.Interval> intervals = new ArrayList<>();
+		long totalErrors = 0;
+		long totalGcPauses = 0;
+		long totalGcMillis = 0;
+		long maxGcMillis = 0;
+		long maxLatencyNanos = 0;
+
+		// カタログ生成は計測開始前に済ませる
+		List<WorkloadGenerator> generators = new ArrayList<>();
+		for(int w = 0; w < config.threads(); w++) {
+			generators.add(new WorkloadGenerator(config.profile(), config.seed(), config.seed() + w + 1));
+		}
+
+		long start = System.nanoTime();
+		long deadline = start + config.duration().toNanos();
+		ExecutorService workers = Executors.newFixedThreadPool(config.threads(), r -> {
+			Thread t = new Thread(r, "soak-worker");
+			t.setDaemon(true);
+			return t;
+		});
+		try (GcPauseMonitor gc = new GcPauseMonitor()) {
+			for(WorkloadGenerator generator : generators) {
+				workers.execute(() -> {
+					while(System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+						OrderRequest req = generator.next();
+						long t0 = System.nanoTime();
+						try {
+							service.placeOrder(req);
+						} catch (RuntimeException e) {
+							errors.increment();
+						}
+						long elapsed = System.nanoTime() - t0;
+						histogram.record(elapsed);
+						maxNanos.accumulateAndGet(elapsed, Math::max);
+						orders.increment();
+					}
+				});
+			}
+			workers.shutdown();
+
+			long intervalStart = start;
+			boolean finished = false;
+			while(!finished) {
+				long next = Math.min(intervalStart + config.reportInterval().toNanos(), deadline);
+				long wait = next - System.nanoTime();
+				if(wait > 0) {
+					TimeUnit.NANOSECONDS.sleep(wait);
+				}
+				if(next >= deadline) {
+					finished = workers.awaitTermination(Math.max(1, config.reportInterval().toMillis()), TimeUnit.MILLISECONDS);
+				}
+				long now = System.nanoTime();
+				long[] counts = histogram.drainTo(cumulative);
+				long intervalOrders = orders.sumThenReset();
+				long intervalErrors = errors.sumThenReset();
+				long intervalMax = maxNanos.getAndSet(0);
+				GcPauseMonitor.Snapshot pauses = gc.drain();
+				SoakReport.Interval interval = new SoakReport.Interval(
+						Duration.ofNanos(now - start), intervalOrders, intervalErrors,
+						intervalOrders / ((now - intervalStart) / 1e9),
+						LatencyHistogram.percentile(counts, 0.50) / 1_000,
+						LatencyHistogram.percentile(counts, 0.99) / 1_000,
+						intervalMax / 1_000,
+						pauses.pauses(), pauses.pauseMillis(), pauses.maxPauseMillis(),
+						GcPauseMonitor.heapUsed(), GcPauseMonitor.heapUsedAfterGc());
+				intervals.add(interval);
+				listener.accept(interval);
+				totalErrors += intervalErrors;
+				totalGcPauses += pauses.pauses();
+				totalGcMillis += pauses.pauseMillis();
+				maxGcMillis = Math.max(maxGcMillis, pauses.maxPauseMillis());
+				maxLatencyNanos = Math.max(maxLatencyNanos, intervalMax);
+				intervalStart = now;
+			}
+		} finally {
+			workers.shutdownNow();
+		}
+
+		long totalOrders = LatencyHistogram.total(cumulative);
+		double seconds = (intervals.isEmpty() ? 0 : intervals.get(intervals.size() - 1).elapsed().toNanos()) / 1e9;
+		SoakReport.Summary summary = new SoakReport.Summary(
+				totalOrders, totalErrors, seconds > 0 ? totalOrders / seconds : 0,
+				LatencyHistogram.percentile(cumulative, 0.50) / 1_000,
+				LatencyHistogram.percentile(cumulative, 0.95) / 1_000,
+				LatencyHistogram.percentile(cumulative, 0.99) / 1_000,
+				maxLatencyNanos / 1_000,
+				totalGcPauses, totalGcMillis, maxGcMillis, heapGrowth(intervals));
+		return new SoakReport(intervals, summary);
+	}
+
+	// GC後ヒープ使用量（GC発生後の区間のみ）の最初と最後の差
+	static long heapGrowth(List<SoakReport.Interval> intervals) {
+		List<Long> afterGc = intervals.stream().map(SoakReport.Interval::heapAfterGcBytes).filter(b -> b > 0).toList();
+		return afterGc.size() < 2 ? 0 : afterGc.get(afterGc.size() - 1) - afterGc.get(0);
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Map<String, String> opts = new HashMap<>();
+		for(String arg : args) {
+			int eq = arg.indexOf('=');
+			if(eq <= 0) {
+				System.err.println("usage: SoakRunner [duration=PT2H] [interval=PT1M] [threads=N] [seed=N] "
+						+ "[baseline=path] [save-baseline=path] [tolerance=0.10]");
+				System.exit(2);
+			}
+			opts.put(arg.substring(0, eq), arg.substring(eq + 1));
+		}
+		SoakConfig d = SoakConfig.defaults();
+		SoakConfig config = new SoakConfig(
+				Duration.parse(opts.getOrDefault("duration", d.duration().toString())),
+				Duration.parse(opts.getOrDefault("interval", d.reportInterval().toString())),
+				Integer.parseInt(opts.getOrDefault("threads", Integer.toString(d.threads()))),
+				d.profile(),
+				Long.parseLong(opts.getOrDefault("seed", Long.toString(d.seed()))),
+				d.productLatency(), d.inventoryLatency(), d.taxLatency(), d.taxRate());
+
+		// 実行条件が異なるベースラインとは比較しないため、長時間の実行前に確認する
+		Path baselinePath = opts.containsKey("baseline") ? Path.of(opts.get("baseline")) : null;
+		if(baselinePath != null) {
+			if(!Files.exists(baselinePath)) {
+				System.err.println("baseline not found: " + baselinePath);
+				System.exit(2);
+			}
+			List<String> mismatches = config.mismatchesAgainst(SoakReport.Summary.loadConfig(baselinePath));
+			if(!mismatches.isEmpty()) {
+				mismatches.forEach(m -> System.err.println("baseline config mismatch: " + m));
+				System.exit(2);
+			}
+		}
+
+		SoakReport report = new SoakRunner(config).run(System.out::println);
+		System.out.println("summary: " + report.summary());
+
+		if(opts.containsKey("save-baseline")) {
+			report.summary().store(Path.of(opts.get("save-baseline")), config);
+		}
+		if(baselinePath != null) {
+			List<String> regressions = report.summary().regressionsAgainst(
+					SoakReport.Summary.load(baselinePath), Double.parseDouble(opts.getOrDefault("tolerance", "0.10")));
+			if(regressions.isEmpty()) {
+				System.out.println("baseline: OK");
+			} else {
+				regressions.forEach(r -> System.out.println("REGRESSION: " + r));
+				System.exit(1);
+			}
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.example.order.app.warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.order.app.OrderService;
+import com.example.order.domain.model.Product;
+import com.example.order.domain.policy.DiscountCapPolicy;
+import com.example.order.domain.policy.PercentCapPolicy;
+import com.example.order.dto.DiscountType;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+import com.example.order.dto.OrderResult;
+import com.example.order.port.outbound.InventoryService;
+import com.example.order.port.outbound.ProductRepository;
+import com.example.order.port.outbound.TaxCalculator;
+
+/**
+ * 起動直後（readiness 前）に OrderService を合成スタブで回し、クラスロードとJITを済ませる。
+ * 全割引分岐（VOLUME / MULTI_ITEM / HIGH_AMOUNT）・Cap 到達/非到達・丸めモード（HALF_UP / HALF_DOWN / null）を網羅する。
+ * 本番ポートは一切呼ばない（在庫引当などの副作用なし）。
+ *
+ * 回数のトレードオフ（StartupBenchmark 実測、各3回、JDK 21）:
+ *   rounds | jvm→ready | ready 直後1万件 p99 | ready→p99 定常
+ *   0      | 100-130ms | 37-56us             | 1.5-1.8s
+ *   50     | 160-220ms | 11-13us             | 1.9-2.6s
+ *   200    | 260-270ms | 8-11us              | 1.1-1.7s
+ *   500    | 330-380ms | 6-7us               | 1.5-2.0s
+ *   2000   | 630-700ms | 5-7us               | 1.6-3.7s
+ * ウォームアップが効くのは ready 直後のテール（初期のインタプリタ/C1 実行）で、p99 定常（C2 完了）までの時間は
+ * 回数によらずほぼ同じ。500 を超えると ready が遅れるだけで直後 p99 はほぼ改善しないため 500 を既定とする。
+ * readiness 予算が厳しい環境では main の引数（回数）で下げる。
+ */
+public class PricingWarmup {
+	public static final int DEFAULT_ROUNDS = 500;
+
+	private static final Map<String, BigDecimal> PRICE = Map.of(
+			"W-LOW-1", new BigDecimal("100"),
+			"W-LOW-2", new BigDecimal("200.50"),
+			"W-LOW-3", new BigDecimal("333.33"),
+			"W-HIGH", new BigDecimal("100000"));
+
+	// 割引分岐ごとのシナリオ（ADR-004）
+	private static final List<List<Line>> SCENARIOS = List.of(
+			List.of(new Line("W-LOW-1", 1), new Line("W-LOW-2", 2)),                               // 割引なし
+			List.of(new Line("W-LOW-1", 10)),                                                      // VOLUME
+			List.of(new Line("W-LOW-1", 1), new Line("W-LOW-2", 1), new Line("W-LOW-3", 1)),       // MULTI_ITEM
+			List.of(new Line("W-HIGH", 1)),                                                        // HIGH_AMOUNT
+			List.of(new Line("W-LOW-1", 10), new Line("W-LOW-3", 12), new Line("W-HIGH", 10)));    // 全適用
+
+	private static final List<RoundingMode> MODES = Collections.unmodifiableList(
+			Arrays.asList(RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, null));
+
+	public record WarmupResult(int orders, Duration elapsed, Set<DiscountType> discountsSeen,
+			boolean capHitSeen, boolean capMissSeen, Set<RoundingMode> modesSeen) {}
+
+	private volatile boolean ready;
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public WarmupResult run() {
+		return run(DEFAULT_ROUNDS);
+	}
+
+	public WarmupResult run(int rounds) {
+		if(rounds <= 0) {
+			throw new IllegalArgumentException("rounds must not be zero or minus");
+		}
+		TrackingCapPolicy defaultCap = new TrackingCapPolicy(new PercentCapPolicy(new BigDecimal("0.30")));
+		TrackingCapPolicy tightCap = new TrackingCapPolicy(new PercentCapPolicy(new BigDecimal("0.02")));
+		List<OrderService> services = List.of(stubService(defaultCap), stubService(tightCap));
+
+		List<OrderRequest> requests = requests();
+		Set<DiscountType> discountsSeen = EnumSet.noneOf(DiscountType.class);
+		Set<RoundingMode> modesSeen = new HashSet<>();
+		int orders = 0;
+		long start = System.nanoTime();
+		for(int i = 0; i < rounds; i++) {
+			for(OrderService service : services) {
+				for(OrderRequest req : requests) {
+					OrderResult result = service.placeOrder(req);
+					discountsSeen.addAll(result.appliedDiscounts());
+					modesSeen.add(req.mode() == null ? RoundingMode.HALF_UP : req.mode());
+					orders++;
+				}
+			}
+		}
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+		ready = true;
+		return new WarmupResult(orders, elapsed, discountsSeen,
+				defaultCap.hit || tightCap.hit, defaultCap.miss || tightCap.miss, modesSeen);
+	}
+
+	// シナリオ × 丸めモードの全組合せ
+	static List<OrderRequest> requests() {
+		List<OrderRequest> requests = new ArrayList<>();
+		for(RoundingMode mode : MODES) {
+			for(List<Line> lines : SCENARIOS) {
+				requests.add(new OrderRequest("WARMUP", mode, lines));
+			}
+		}
+		return requests;
+	}
+
+	static OrderService stubService(DiscountCapPolicy capPolicy) {
+		return new OrderService(new StubProductRepository(), new NoopInventory(), new StubTaxCalculator(), capPolicy);
+	}
+
+	// AppCDS アーカイブ生成（-P appcds）からも呼ばれる
+	public static void main(String[] args) {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+		WarmupResult result = new PricingWarmup().run(rounds);
+		System.out.printf("warmup: %d orders in %d ms, discounts=%s, capHit=%s, modes=%s%n",
+				result.orders(), result.elapsed().toMillis(), result.discountsSeen(), result.capHitSeen(), result.modesSeen());
+	}
+
+	// 合成スタブ
+	static final class StubProductRepository implements ProductRepository {
+		@Override
+		public Optional<Product> findById(String productId) {
+			BigDecimal price = PRICE.get(productId);
+			return price == null ? Optional.empty() : Optional.of(new Product(productId, price));
+		}
+	}
+
+	static final class NoopInventory implements InventoryService {
+		@Override
+		public void reserve(String productId, int qty) {}
+	}
+
+	static final class StubTaxCalculator implements TaxCalculator {
+		private static final BigDecimal RATE = new BigDecimal("0.10");
+		@Override
+		public BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) {
+			return net.multiply(RATE).setScale(2, mode);
+		}
+		@Override
+		public BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) {
+			return net.add(net.multiply(RATE)).setScale(0, mode);
+		}
+	}
+
+	// Cap 到達/非到達の両分岐を通ったことを記録する
+	static final class TrackingCapPolicy implements DiscountCapPolicy {
+		private final DiscountCapPolicy delegate;
+		boolean hit;
+		boolean miss;
+		TrackingCapPolicy(DiscountCapPolicy delegate) { this.delegate = delegate; }
+		@Override
+		public BigDecimal apply(BigDecimal subtotalBeforeDiscount, BigDecimal totalDiscount) {
+			BigDecimal capped = delegate.apply(subtotalBeforeDiscount, totalDiscount);
+			if(capped.compareTo(totalDiscount) < 0) {
+				hit = true;
+			} else {
+				miss = true;
+			}
+			return capped;
+		}
+	}
+}
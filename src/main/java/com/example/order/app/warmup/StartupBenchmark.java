@@ -0,0 +1,144 @@
+package com.example.order.app.warmup;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.order.app.OrderService;
+import com.example.order.domain.policy.PercentCapPolicy;
+import com.example.order.dto.OrderRequest;
+
+/**
+ * 起動ベンチマーク（新しいJVMで1回ずつ実行する）。
+ * 起点は RuntimeMXBean の起動時刻と ready 時刻（ウォームアップ完了、なしの場合は計測開始時）の2つ。
+ *  - JVM起動 → ready / 最初の priced order
+ *  - ready 直後 N 件の p99（ウォームアップがコールド遅延を消せているかの直接の指標）
+ *  - JVM起動 / ready → p99 定常到達（時間・件数）
+ *
+ * 定常判定（オフライン）: 固定件数を計測し、窓 p99 の後半中央値を定常 p99 とする。
+ * 窓 p99 の移動中央値（ROLLING_WINDOWS 窓）がそれ以降ずっと定常 p99 の ±STABLE_TOLERANCE
+ * （最低 STABLE_FLOOR_NANOS）に収まる最初の窓を定常到達点とする。単発の外れ窓では判定がぶれない。
+ *
+ * 例:
+ *   java -cp target/order-pricing-portfolio-0.1.0.jar com.example.order.app.warmup.StartupBenchmark
+ *   java -cp target/order-pricing-portfolio-0.1.0.jar com.example.order.app.warmup.StartupBenchmark --warmup --warmup-rounds=500
+ *   java -XX:SharedArchiveFile=target/pricing-appcds.jsa -cp target/order-pricing-portfolio-0.1.0.jar com.example.order.app.warmup.StartupBenchmark --warmup
+ */
+public final class StartupBenchmark {
+	private static final int WINDOW_SIZE = 2_000;
+	private static final int DEFAULT_ORDERS = 400_000;
+	private static final int FIRST_ORDERS_AFTER_READY = 10_000;
+	private static final int ROLLING_WINDOWS = 9;
+	private static final double STABLE_TOLERANCE = 0.20;
+	private static final long STABLE_FLOOR_NANOS = 1_000; // nanoTime 粒度のゆらぎは無視
+
+	private StartupBenchmark() {}
+
+	public static void main(String[] args) {
+		boolean warmup = false;
+		int rounds = PricingWarmup.DEFAULT_ROUNDS;
+		int orders = DEFAULT_ORDERS;
+		for(String arg : args) {
+			if(arg.equals("--warmup")) {
+				warmup = true;
+			} else if(arg.startsWith("--warmup-rounds=")) {
+				rounds = Integer.parseInt(arg.substring("--warmup-rounds=".length()));
+			} else if(arg.startsWith("--orders=")) {
+				orders = Integer.parseInt(arg.substring("--orders=".length()));
+			} else {
+				System.err.println("usage: StartupBenchmark [--warmup] [--warmup-rounds=N] [--orders=N]");
+				System.exit(2);
+			}
+		}
+		long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+		PricingWarmup.WarmupResult warmupResult = warmup ? new PricingWarmup().run(rounds) : null;
+		long readyNanos = System.nanoTime();
+		long readySinceJvmStartMillis = System.currentTimeMillis() - jvmStartMillis;
+
+		OrderService service = PricingWarmup.stubService(new PercentCapPolicy(new BigDecimal("0.30")));
+		List<OrderRequest> requests = PricingWarmup.requests();
+
+		int windows = Math.max(1, orders / WINDOW_SIZE);
+		long[] window = new long[WINDOW_SIZE];
+		long[] windowP99 = new long[windows];
+		long[] windowEndNanos = new long[windows];
+		long[] firstOrders = new long[Math.min(FIRST_ORDERS_AFTER_READY, windows * WINDOW_SIZE)];
+		long firstOrderNanos = 0;
+		int n = 0;
+		for(int w = 0; w < windows; w++) {
+			for(int i = 0; i < WINDOW_SIZE; i++, n++) {
+				OrderRequest req = requests.get(n % requests.size());
+				long s = System.nanoTime();
+				service.placeOrder(req);
+				long elapsed = System.nanoTime() - s;
+				window[i] = elapsed;
+				if(n < firstOrders.length) {
+					firstOrders[n] = elapsed;
+				}
+				if(n == 0) {
+					firstOrderNanos = System.nanoTime() - readyNanos;
+				}
+			}
+			windowP99[w] = p99(window);
+			windowEndNanos[w] = System.nanoTime() - readyNanos;
+		}
+
+		long steadyP99 = steadyP99(windowP99);
+		int steadyWindow = steadyWindow(windowP99, steadyP99);
+		long readyToSteadyMillis = windowEndNanos[steadyWindow] / 1_000_000;
+
+		if(warmupResult == null) {
+			System.out.println("warmup=false");
+		} else {
+			System.out.printf("warmup=true rounds=%d (%d orders, %d ms)%n", rounds, warmupResult.orders(), warmupResult.elapsed().toMillis());
+		}
+		System.out.printf("jvm start -> ready: %d ms%n", readySinceJvmStartMillis);
+		System.out.printf("jvm start -> first priced order: %d ms (ready -> first: %d us)%n",
+				readySinceJvmStartMillis + firstOrderNanos / 1_000_000, firstOrderNanos / 1_000);
+		System.out.printf("p99 of first %d orders after ready: %d us%n", firstOrders.length, p99(firstOrders) / 1_000);
+		System.out.printf("steady-state p99: %d us (median of last %d windows of %d orders)%n",
+				steadyP99 / 1_000, windows - windows / 2, WINDOW_SIZE);
+		System.out.printf("ready -> steady-state p99: %d ms / %d orders%n", readyToSteadyMillis, (long) (steadyWindow + 1) * WINDOW_SIZE);
+		System.out.printf("jvm start -> steady-state p99: %d ms%n", readySinceJvmStartMillis + readyToSteadyMillis);
+	}
+
+	static long p99(long[] samples) {
+		long[] sorted = samples.clone();
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(0.99 * sorted.length);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	// 後半の窓 p99 の中央値
+	static long steadyP99(long[] windowP99) {
+		return median(windowP99, windowP99.length / 2, windowP99.length);
+	}
+
+	// 移動中央値がその窓以降ずっと定常 p99 の許容幅に収まる最初の窓（移動中央値は窓 w で終わる ROLLING_WINDOWS 窓分）
+	static int steadyWindow(long[] windowP99, long steadyP99) {
+		int steady = windowP99.length - 1;
+		for(int w = windowP99.length - 1; w >= 0; w--) {
+			long rolling = median(windowP99, Math.max(0, w - ROLLING_WINDOWS + 1), w + 1);
+			if(!isWithinTolerance(steadyP99, rolling)) {
+				break;
+			}
+			steady = w;
+		}
+		return steady;
+	}
+
+	static boolean isWithinTolerance(long reference, long value) {
+		if(reference <= 0) {
+			return false;
+		}
+		return Math.abs(value - reference) <= Math.max(reference * STABLE_TOLERANCE, STABLE_FLOOR_NANOS);
+	}
+
+	private static long median(long[] values, int from, int to) {
+		long[] sorted = Arrays.copyOfRange(values, from, to);
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.order.app.workload;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+
+/**
+ * WorkloadProfile に従って OrderRequest を生成する（スレッド非安全、ワーカーごとに1つ持つ）。
+ * 商品カタログは catalogSeed のみから決まるため、requestSeed を変えた複数ジェネレータで同じカタログを共有できる。
+ */
+public class WorkloadGenerator {
+	static final int PREMIUM_SKUS = 50;
+	static final BigDecimal PREMIUM_MIN_PRICE = new BigDecimal("80000");
+	static final BigDecimal PREMIUM_MAX_PRICE = new BigDecimal("125000");
+	private static final double MEDIAN_UNIT_PRICE = 1_000;
+	private static final double UNIT_PRICE_SIGMA = 1.0;
+	private static final int VOLUME_DISCOUNT_QTY = 10;
+
+	private final WorkloadProfile profile;
+	private final SplittableRandom random;
+	private final Map<String, BigDecimal> catalog;
+	private final String[] skus;
+	private final double[] skuCdf;
+	private final String[] regions;
+	private final double[] regionCdf;
+
+	public WorkloadGenerator(WorkloadProfile profile, long seed) {
+		this(profile, seed, seed);
+	}
+
+	public WorkloadGenerator(WorkloadProfile profile, long catalogSeed, long requestSeed) {
+		this.profile = profile;
+		this.random = new SplittableRandom(requestSeed);
+
+		SplittableRandom catalogRandom = new SplittableRandom(catalogSeed);
+		Map<String, BigDecimal> products = new LinkedHashMap<>();
+		this.skus = new String[profile.catalogSize()];
+		for(int rank = 0; rank < skus.length; rank++) {
+			skus[rank] = String.format("SKU-%05d", rank + 1);
+			double price = MEDIAN_UNIT_PRICE * Math.exp(UNIT_PRICE_SIGMA * gaussian(catalogRandom));
+			products.put(skus[rank], BigDecimal.valueOf(Math.max(price, 0.01)).setScale(2, RoundingMode.HALF_UP));
+		}
+		BigDecimal premiumRange = PREMIUM_MAX_PRICE.subtract(PREMIUM_MIN_PRICE);
+		for(int i = 0; i < PREMIUM_SKUS; i++) {
+			BigDecimal price = PREMIUM_MIN_PRICE.add(premiumRange.multiply(BigDecimal.valueOf(catalogRandom.nextDouble())));
+			products.put(premiumSku(i), price.setScale(2, RoundingMode.HALF_UP));
+		}
+		this.catalog = Collections.unmodifiableMap(products);
+
+		this.skuCdf = new double[skus.length];
+		for(int rank = 0; rank < skus.length; rank++) {
+			skuCdf[rank] = 1.0 / Math.pow(rank + 1, profile.zipfExponent());
+		}
+		normalizeCumulative(skuCdf);
+
+		this.regions = profile.regionMix().keySet().stream().sorted().toArray(String[]::new);
+		this.regionCdf = new double[regions.length];
+		for(int i = 0; i < regions.length; i++) {
+			regionCdf[i] = profile.regionMix().get(regions[i]);
+		}
+		normalizeCumulative(regionCdf);
+	}
+
+	public Map<String, BigDecimal> catalog() {
+		return catalog;
+	}
+
+	public OrderRequest next() {
+		int lineCount = nextLineCount();
+		List<Line> lines = new ArrayList<>(lineCount);
+		for(int i = 0; i < lineCount; i++) {
+			lines.add(new Line(skus[sample(skuCdf)], nextQty()));
+		}
+		if(random.nextDouble() < profile.highAmountShare()) {
+			lines.set(0, new Line(premiumSku(random.nextInt(PREMIUM_SKUS)), 1));
+		}
+		return new OrderRequest(regions[sample(regionCdf)], null, lines);
+	}
+
+	// 離散 Pareto: floor(min / U^(1/alpha)) を maxLines で打ち切り
+	int nextLineCount() {
+		double u = 1.0 - random.nextDouble(); // (0, 1]
+		double lines = Math.floor(profile.minLines() / Math.pow(u, 1.0 / profile.linesTailAlpha()));
+		return (int) Math.min(profile.maxLines(), lines);
+	}
+
+	int nextQty() {
+		if(random.nextDouble() < profile.volumeBoundaryShare()) {
+			int spread = profile.volumeBoundarySpread();
+			return VOLUME_DISCOUNT_QTY - spread + random.nextInt(2 * spread + 1);
+		}
+		return 1 + random.nextInt(profile.maxBaseQty());
+	}
+
+	private int sample(double[] cdf) {
+		int i = Arrays.binarySearch(cdf, random.nextDouble());
+		return Math.min(i >= 0 ? i : -i - 1, cdf.length - 1);
+	}
+
+	private static String premiumSku(int i) {
+		return String.format("PREMIUM-%03d", i + 1);
+	}
+
+	private static void normalizeCumulative(double[] weights) {
+		double sum = 0;
+		for(int i = 0; i < weights.length; i++) {
+			sum += weights[i];
+			weights[i] = sum;
+		}
+		for(int i = 0; i < weights.length; i++) {
+			weights[i] /= sum;
+		}
+	}
+
+	// Box-Muller（SplittableRandom は nextGaussian を持たないため）
+	private static double gaussian(SplittableRandom r) {
+		double u1 = 1.0 - r.nextDouble();
+		double u2 = r.nextDouble();
+		return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+	}
+}
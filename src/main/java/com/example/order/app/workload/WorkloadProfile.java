@@ -0,0 +1,58 @@
+package com.example.order.app.workload;
+
+import java.util.Map;
+
+/**
+ * 合成ワークロードの分布パラメータ。
+ *
+ * - SKU人気度: Zipf(zipfExponent)、catalogSize 品目（順位1が最頻）
+ * - 注文行数: [minLines, maxLines] で打ち切った離散 Pareto(linesTailAlpha)（裾が重い）
+ * - 数量: volumeBoundaryShare の確率で VOLUME 境界 10±volumeBoundarySpread、それ以外は 1..maxBaseQty
+ * - region: regionMix の重み（合計1でなくてよい）
+ * - 高額注文: highAmountShare の確率で 80,000〜125,000 の高額SKUを1行含め、HIGH_AMOUNT 閾値(100,000)をまたがせる
+ */
+public record WorkloadProfile(
+		int catalogSize,
+		double zipfExponent,
+		int minLines,
+		int maxLines,
+		double linesTailAlpha,
+		double volumeBoundaryShare,
+		int volumeBoundarySpread,
+		int maxBaseQty,
+		Map<String, Double> regionMix,
+		double highAmountShare) {
+
+	public WorkloadProfile {
+		if(catalogSize <= 0) {
+			throw new IllegalArgumentException("catalogSize must not be zero or minus");
+		}
+		if(zipfExponent <= 0 || linesTailAlpha <= 0) {
+			throw new IllegalArgumentException("zipfExponent and linesTailAlpha must not be zero or minus");
+		}
+		if(minLines <= 0 || maxLines < minLines) {
+			throw new IllegalArgumentException("lines range must be 1 <= minLines <= maxLines");
+		}
+		if(volumeBoundarySpread < 0 || volumeBoundarySpread > 9 || maxBaseQty <= 0) {
+			throw new IllegalArgumentException("volumeBoundarySpread must be 0..9 and maxBaseQty must not be zero or minus");
+		}
+		if(!isProbability(volumeBoundaryShare) || !isProbability(highAmountShare)) {
+			throw new IllegalArgumentException("shares must be between 0 and 1");
+		}
+		if(regionMix == null || regionMix.isEmpty()
+				|| regionMix.values().stream().anyMatch(w -> w == null || w < 0)
+				|| regionMix.values().stream().mapToDouble(Double::doubleValue).sum() <= 0) {
+			throw new IllegalArgumentException("regionMix must not be null or empty");
+		}
+		regionMix = Map.copyOf(regionMix);
+	}
+
+	public static WorkloadProfile defaults() {
+		return new WorkloadProfile(10_000, 1.1, 1, 200, 1.5, 0.3, 2, 5,
+				Map.of("JP", 0.5, "US", 0.3, "EU", 0.2), 0.05);
+	}
+
+	private static boolean isProbability(double p) {
+		return p >= 0 && p <= 1;
+	}
+}
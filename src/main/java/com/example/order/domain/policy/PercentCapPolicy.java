@@ -6,6 +6,7 @@ import java.math.RoundingMode;
 public class PercentCapPolicy implements DiscountCapPolicy{
 	  private final BigDecimal capRate; // 0.30
 	  public PercentCapPolicy(BigDecimal capRate) { this.capRate = capRate; }
+	  public BigDecimal capRate() { return capRate; }
 	  @Override
 	  public BigDecimal apply(BigDecimal subtotal, BigDecimal rawDiscount) {
 	    BigDecimal cap = subtotal.multiply(capRate).setScale(2, RoundingMode.HALF_UP);
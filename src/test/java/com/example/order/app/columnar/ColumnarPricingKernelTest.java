@@ -0,0 +1,265 @@
+package com.example.order.app.columnar;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.order.app.OrderService;
+import com.example.order.domain.model.Product;
+import com.example.order.domain.policy.PercentCapPolicy;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+import com.example.order.dto.OrderResult;
+import com.example.order.port.outbound.InventoryService;
+import com.example.order.port.outbound.ProductRepository;
+import com.example.order.port.outbound.TaxCalculator;
+
+/**
+ * 列指向カーネルと OrderService.placeOrder の差分テスト。
+ */
+class ColumnarPricingKernelTest {
+
+	private static final RoundingMode[] MODES = {RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN, null};
+	private static final String[] REGIONS = {"JP", "US", "EU"};
+
+	private final Map<String, BigDecimal> priceTable = new HashMap<>();
+	private final Map<String, Integer> lookups = new HashMap<>();
+	private final ProductRepository products = id -> {
+		lookups.merge(id, 1, Integer::sum);
+		return Optional.ofNullable(priceTable.get(id)).map(p -> new Product(id, p));
+	};
+	private final InventoryService inventory = (id, qty) -> {};
+	// 地域別税率・mode で丸める（丸め前の値が一致しないと差分が出る）
+	private final TaxCalculator tax = new TaxCalculator() {
+		public BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) {
+			return net.multiply(rate(region)).setScale(2, mode);
+		}
+		public BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) {
+			return net.add(net.multiply(rate(region))).setScale(0, mode);
+		}
+		private BigDecimal rate(String region) {
+			return switch (region) {
+				case "JP" -> new BigDecimal("0.10");
+				case "US" -> new BigDecimal("0.0725");
+				default -> new BigDecimal("0.19");
+			};
+		}
+	};
+
+	private void assertSameAsPlaceOrder(List<OrderRequest> requests, BigDecimal capRate) {
+		PercentCapPolicy cap = new PercentCapPolicy(capRate);
+		OrderService service = new OrderService(products, inventory, tax, cap);
+		List<OrderResult> expected = requests.stream().map(service::placeOrder).toList();
+
+		ColumnarOrderBatch batch = ColumnarOrderConverter.fromRequests(requests, products);
+		List<OrderResult> actual = ColumnarOrderConverter.toResults(batch, new ColumnarPricingKernel(cap).price(batch), tax);
+
+		for(int i = 0; i < requests.size(); i++) {
+			assertThat(actual.get(i)).as("order %d: %s", i, requests.get(i)).isEqualTo(expected.get(i));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0.30", "0.07", "0.02", "0"})
+	@DisplayName("C-1-1: ランダム注文で placeOrder と全項目一致する")
+	void matchesPlaceOrderOnRandomOrders(String capRate) {
+		Random rnd = new Random(20251018L);
+		for(int p = 0; p < 60; p++) {
+			long cents = p % 5 == 0 ? (rnd.nextInt(400) + 1) * 10_000L : rnd.nextInt(5_000_000) + 1;
+			priceTable.put("P" + p, BigDecimal.valueOf(cents, 2));
+		}
+		List<OrderRequest> requests = new ArrayList<>();
+		for(int o = 0; o < 2_000; o++) {
+			int lines = 1 + rnd.nextInt(6);
+			List<Line> ls = new ArrayList<>();
+			for(int l = 0; l < lines; l++) {
+				ls.add(new Line("P" + rnd.nextInt(60), 1 + rnd.nextInt(15)));
+			}
+			requests.add(new OrderRequest(REGIONS[rnd.nextInt(REGIONS.length)], MODES[rnd.nextInt(MODES.length)], ls));
+		}
+
+		assertSameAsPlaceOrder(requests, new BigDecimal(capRate));
+	}
+
+	@Test
+	@DisplayName("C-1-2: 割引閾値（qty 9/10/11、行数 2/3、HIGH_AMOUNT 前後）で一致する")
+	void matchesPlaceOrderOnThresholds() {
+		priceTable.put("A", new BigDecimal("1000"));
+		priceTable.put("B", new BigDecimal("0.01"));
+		priceTable.put("C", new BigDecimal("333.33"));
+		priceTable.put("H1", new BigDecimal("99999.99"));
+		priceTable.put("H2", new BigDecimal("100000"));
+		priceTable.put("H3", new BigDecimal("100000.01"));
+		priceTable.put("M", new BigDecimal("34013.61")); // MULTI_ITEM 後にちょうど境界付近
+		List<OrderRequest> requests = new ArrayList<>();
+		for(RoundingMode mode : MODES) {
+			Stream.of(
+					List.of(new Line("A", 9)),
+					List.of(new Line("A", 10)),
+					List.of(new Line("A", 11)),
+					List.of(new Line("B", 1), new Line("C", 1)),
+					List.of(new Line("B", 1), new Line("C", 1), new Line("A", 1)),
+					List.of(new Line("H1", 1)),
+					List.of(new Line("H2", 1)),
+					List.of(new Line("H3", 1)),
+					List.of(new Line("M", 1), new Line("M", 1), new Line("M", 1)),
+					List.of(new Line("C", 10), new Line("C", 13), new Line("B", 17)))
+				.forEach(lines -> requests.add(new OrderRequest("US", mode, lines)));
+		}
+
+		assertSameAsPlaceOrder(requests, new BigDecimal("0.30"));
+		assertSameAsPlaceOrder(requests, new BigDecimal("0.04"));
+	}
+
+	@Test
+	@DisplayName("C-1-3: チャンク境界をまたぐ注文・作業領域を超える行数の注文でも一致する")
+	void matchesPlaceOrderAcrossChunks() {
+		priceTable.put("A", new BigDecimal("12.34"));
+		priceTable.put("B", new BigDecimal("5"));
+		List<Line> huge = new ArrayList<>();
+		for(int i = 0; i < ColumnarPricingKernel.CHUNK_LINES + 100; i++) {
+			huge.add(new Line(i % 2 == 0 ? "A" : "B", 1 + i % 12));
+		}
+		List<OrderRequest> requests = new ArrayList<>();
+		for(int o = 0; o < 1_500; o++) {
+			requests.add(new OrderRequest("JP", null, List.of(new Line("A", 10), new Line("B", 1))));
+			if(o % 500 == 0) {
+				requests.add(new OrderRequest("US", RoundingMode.HALF_DOWN, huge));
+			}
+		}
+
+		assertSameAsPlaceOrder(requests, new BigDecimal("0.30"));
+		ColumnarOrderBatch batch = ColumnarOrderConverter.fromRequests(requests, products);
+		assertThat(ColumnarPricingKernel.scratchLines(batch)).isEqualTo(ColumnarPricingKernel.CHUNK_LINES + 100);
+		assertThat(ColumnarPricingKernel.requiredBytes(batch))
+			.isEqualTo(1_503L * 33 + (ColumnarPricingKernel.CHUNK_LINES + 100) * 32L);
+	}
+
+	@Test
+	@DisplayName("C-2-1: productId は辞書化され、商品ごとに1回だけ取得される")
+	void dictionaryEncodesProducts() {
+		priceTable.put("A", new BigDecimal("100"));
+		priceTable.put("B", new BigDecimal("200"));
+		List<OrderRequest> requests = List.of(
+				new OrderRequest("JP", null, List.of(new Line("A", 1), new Line("B", 2))),
+				new OrderRequest("JP", null, List.of(new Line("B", 3))),
+				new OrderRequest("US", null, List.of(new Line("A", 4), new Line("A", 5))));
+
+		ColumnarOrderBatch batch = ColumnarOrderConverter.fromRequests(requests, products);
+
+		assertThat(batch.orderCount()).isEqualTo(3);
+		assertThat(batch.lineCount()).isEqualTo(5);
+		assertThat(batch.distinctProducts()).isEqualTo(2);
+		assertThat(batch.orderOffsets).containsExactly(0, 2, 3, 5);
+		assertThat(batch.productCodes).containsExactly(0, 1, 1, 0, 0);
+		assertThat(batch.unitPrices).containsExactly(10_000L, 20_000L);
+		assertThat(batch.region(2)).isEqualTo("US");
+		assertThat(lookups).containsEntry("A", 1).containsEntry("B", 1);
+	}
+
+	@Test
+	@DisplayName("C-2-2: 列から直接生成したバッチは fromRequests と同じ結果になる")
+	void ofMatchesFromRequests() {
+		priceTable.put("A", new BigDecimal("100"));
+		priceTable.put("B", new BigDecimal("200"));
+		List<OrderRequest> requests = List.of(
+				new OrderRequest("JP", null, List.of(new Line("A", 1), new Line("B", 2))),
+				new OrderRequest("JP", RoundingMode.HALF_DOWN, List.of(new Line("B", 30))),
+				new OrderRequest("US", null, List.of(new Line("A", 4), new Line("A", 5))));
+		ColumnarPricingKernel kernel = new ColumnarPricingKernel(new BigDecimal("0.30"));
+
+		ColumnarOrderBatch batch = ColumnarOrderBatch.of(
+				new int[] {0, 2, 3, 5}, new int[] {0, 1, 1, 0, 0}, new int[] {1, 2, 30, 4, 5},
+				new String[] {"A", "B"}, new long[] {10_000L, 20_000L},
+				new int[] {0, 0, 1}, new String[] {"JP", "US"},
+				new RoundingMode[] {null, RoundingMode.HALF_DOWN, null});
+
+		ColumnarOrderBatch converted = ColumnarOrderConverter.fromRequests(requests, products);
+
+		assertThat(ColumnarOrderConverter.toResults(batch, kernel.price(batch), tax))
+			.isEqualTo(ColumnarOrderConverter.toResults(converted, kernel.price(converted), tax));
+	}
+
+	@Test
+	@DisplayName("C-3-2: 列の不整合（offsets・辞書範囲・qty・素合計上限）の時 IAEがThrowされる")
+	void ofRejectsInconsistentColumns() {
+		String[] dictionary = {"A"};
+		long[] prices = {10_000L};
+		String[] regions = {"JP"};
+		RoundingMode[] modes = {null};
+
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {1, 1}, new int[] {0}, new int[] {1}, dictionary, prices, new int[] {0}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("start at 0");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 2}, new int[] {0}, new int[] {1}, dictionary, prices, new int[] {0}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("end at lineCount");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 2, 1, 2}, new int[] {0, 0}, new int[] {1, 1}, dictionary, prices,
+				new int[] {0, 0, 0}, regions, new RoundingMode[3]))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("must not decrease");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 1}, new int[] {1}, new int[] {1}, dictionary, prices, new int[] {0}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("product code out of dictionary");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 1}, new int[] {0}, new int[] {1}, dictionary, prices, new int[] {1}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("region code out of dictionary");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 1}, new int[] {0}, new int[] {0}, dictionary, prices, new int[] {0}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("qty must not be zero or minus");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 1}, new int[] {0}, new int[] {1}, dictionary,
+				new long[] {ColumnarOrderBatch.MAX_ORDER_NET_CENTS + 1}, new int[] {0}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("columnar range");
+		assertThatThrownBy(() -> ColumnarOrderBatch.of(new int[] {0, 1}, new int[] {0}, new int[] {Integer.MAX_VALUE}, dictionary,
+				new long[] {Long.MAX_VALUE / 2}, new int[] {0}, regions, modes))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("columnar range");
+	}
+
+	@Test
+	@DisplayName("C-3-1: 商品未取得・scale超過・範囲超過の時 IAEがThrowされる")
+	void rejectsUnrepresentableInput() {
+		priceTable.put("FINE", new BigDecimal("0.001"));
+		priceTable.put("BIG", new BigDecimal("9000000000"));
+
+		assertThatThrownBy(() -> ColumnarOrderConverter.fromRequests(
+				List.of(new OrderRequest("JP", null, List.of(new Line("X", 1)))), products))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("product not found: X");
+		assertThatThrownBy(() -> ColumnarOrderConverter.fromRequests(
+				List.of(new OrderRequest("JP", null, List.of(new Line("FINE", 1)))), products))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("FINE");
+		assertThatThrownBy(() -> ColumnarOrderConverter.fromRequests(
+				List.of(new OrderRequest("JP", null, List.of(new Line("BIG", 2)))), products))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("columnar range");
+		assertThatThrownBy(() -> ColumnarOrderConverter.fromRequests(
+				List.of(new OrderRequest(" ", null, List.of(new Line("BIG", 1)))), products))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("region");
+	}
+
+	@Test
+	@DisplayName("C-4-1: HALF_UP 整数丸め")
+	void halfUp() {
+		assertThat(ColumnarPricingKernel.halfUp(1_499_999, 1_000_000)).isEqualTo(1);
+		assertThat(ColumnarPricingKernel.halfUp(1_500_000, 1_000_000)).isEqualTo(2);
+		assertThat(ColumnarPricingKernel.halfUp(-1_500_000, 1_000_000)).isEqualTo(-2);
+		assertThat(ColumnarPricingKernel.halfUp(7, 1)).isEqualTo(7);
+	}
+}
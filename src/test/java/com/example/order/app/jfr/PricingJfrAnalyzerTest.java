@@ -0,0 +1,115 @@
+package com.example.order.app.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.order.app.OrderService;
+import com.example.order.domain.model.Product;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+import com.example.order.port.outbound.InventoryService;
+import com.example.order.port.outbound.ProductRepository;
+import com.example.order.port.outbound.TaxCalculator;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class PricingJfrAnalyzerTest {
+
+	private static final Map<String, BigDecimal> PRICE = Map.of(
+			"A", new BigDecimal("10000"),
+			"B", new BigDecimal("20000"),
+			"C", new BigDecimal("30000"));
+
+	private final ProductRepository products = id -> Optional.ofNullable(PRICE.get(id)).map(p -> new Product(id, p));
+	private final InventoryService inventory = (id, qty) -> {};
+	private final TaxCalculator tax = new TaxCalculator() {
+		public BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) { return BigDecimal.ZERO; }
+		public BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) { return net; }
+	};
+
+	private Path record(Path dir, Runnable body) throws Exception {
+		Configuration config;
+		try (Reader r = new InputStreamReader(getClass().getResourceAsStream("/jfr/order-pricing.jfc"), StandardCharsets.UTF_8)) {
+			config = Configuration.create(r);
+		}
+		Path out = dir.resolve("pricing.jfr");
+		try (Recording recording = new Recording(config)) {
+			recording.start();
+			body.run();
+			recording.stop();
+			recording.dump(out);
+		}
+		return out;
+	}
+
+	@Test
+	@DisplayName("J-1-1: placeOrder 1回でステージ別イベントが記録され、Analyzerで要約できる")
+	void summarizesStagesOfOnePlacedOrder(@TempDir Path dir) throws Exception {
+		OrderService sut = new OrderService(products, inventory, tax);
+		// Given: 3行・全行qty>=10（VOLUME/MULTI_ITEM/HIGH_AMOUNT 全適用）
+		OrderRequest req = new OrderRequest("JP", RoundingMode.HALF_UP,
+				List.of(new Line("A", 10), new Line("B", 10), new Line("C", 10)));
+
+		// When: 記録中に placeOrder
+		Path jfr = record(dir, () -> sut.placeOrder(req));
+
+		// Then: 各ステージの件数
+		PricingJfrAnalyzer.Analysis analysis = PricingJfrAnalyzer.analyze(jfr);
+		Map<String, PricingJfrAnalyzer.StageSummary> summary = analysis.stages();
+		assertThat(summary.get("OrderPriced").count()).isEqualTo(1);
+		assertThat(summary.get("ProductLookup").count()).isEqualTo(3);
+		assertThat(summary.get("InventoryReserve").count()).isEqualTo(3);
+		// TaxCall は operation 別
+		assertThat(summary.get("TaxCall.calcTaxAmount").count()).isEqualTo(1);
+		assertThat(summary.get("TaxCall.addTax").count()).isEqualTo(1);
+		assertThat(summary).doesNotContainKeys("TaxCall", "ValidationFailure");
+		assertThat(analysis.validationFailures()).isEmpty();
+
+		RecordedEvent priced = RecordingFile.readAllEvents(jfr).stream()
+				.filter(e -> e.getEventType().getName().equals("com.example.order.OrderPriced"))
+				.findFirst().orElseThrow();
+		assertThat(priced.getInt("lineCount")).isEqualTo(3);
+		assertThat(priced.getString("region")).isEqualTo("JP");
+		assertThat(priced.getString("appliedDiscounts")).isEqualTo("VOLUME,MULTI_ITEM,HIGH_AMOUNT");
+		assertThat(priced.getBoolean("capHit")).isFalse();
+	}
+
+	@Test
+	@DisplayName("J-1-2: 検証エラー時は ValidationFailure のみ記録され OrderPriced は出ない")
+	void recordsValidationFailure(@TempDir Path dir) throws Exception {
+		OrderService sut = new OrderService(products, inventory, tax);
+		// Given: region 空白
+		OrderRequest req = new OrderRequest(" ", RoundingMode.HALF_UP, List.of(new Line("A", 1)));
+
+		// When: 記録中に placeOrder（IAE）
+		Path jfr = record(dir, () -> assertThatThrownBy(() -> sut.placeOrder(req))
+				.isInstanceOf(IllegalArgumentException.class));
+
+		// Then: ValidationFailure(field=region)
+		List<RecordedEvent> failures = RecordingFile.readAllEvents(jfr).stream()
+				.filter(e -> e.getEventType().getName().equals("com.example.order.ValidationFailure"))
+				.toList();
+		assertThat(failures).hasSize(1);
+		assertThat(failures.get(0).getString("field")).isEqualTo("region");
+		// 瞬間イベントはステージではなく件数として集計
+		PricingJfrAnalyzer.Analysis analysis = PricingJfrAnalyzer.analyze(jfr);
+		assertThat(analysis.stages()).doesNotContainKeys("OrderPriced", "ValidationFailure");
+		assertThat(analysis.validationFailures()).containsExactly(Map.entry("region", 1L));
+	}
+}
@@ -0,0 +1,165 @@
+package com.example.order.app.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.order.app.OrderService;
+import com.example.order.domain.model.Product;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+import com.example.order.dto.OrderResult;
+import com.example.order.port.outbound.InventoryService;
+import com.example.order.port.outbound.ProductRepository;
+import com.example.order.port.outbound.TaxCalculator;
+
+class ShardedPricingRouterTest {
+
+	private final ProductRepository products = id -> Optional.of(new Product(id, new BigDecimal("100")));
+	private final TaxCalculator tax = new TaxCalculator() {
+		public BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) { return BigDecimal.ZERO; }
+		public BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) { return net; }
+	};
+	private final InProcessTransport transport = new InProcessTransport();
+
+	@AfterEach
+	void tearDown() {
+		transport.close();
+	}
+
+	private OrderService service(InventoryService inventory) {
+		return new OrderService(products, inventory, tax);
+	}
+
+	private static OrderRequest order(String region) {
+		return new OrderRequest(region, RoundingMode.HALF_UP, List.of(new Line("A", 1)));
+	}
+
+	private static List<String> regions(int n) {
+		List<String> regions = new ArrayList<>();
+		for(int i = 0; i < n; i++) {
+			regions.add("R" + i);
+		}
+		return regions;
+	}
+
+	@Test
+	@DisplayName("S-1-1: 同一regionは常に同じノードへ、複数regionは全ノードへ分散する")
+	void routesSameRegionToSameNode() throws Exception {
+		ShardedPricingRouter sut = new ShardedPricingRouter(transport);
+		for(String node : List.of("n1", "n2", "n3")) {
+			transport.register(node, service((id, qty) -> {}));
+			sut.addNode(node);
+		}
+
+		// When: 200 region × 2回
+		Map<String, String> owner = new HashMap<>();
+		for(String region : regions(200)) {
+			owner.put(region, sut.nodeFor(region));
+			assertThat(sut.route(order(region)).get(5, TimeUnit.SECONDS).totalNetBeforeDiscount())
+				.isEqualByComparingTo("100.00");
+			assertThat(sut.nodeFor(region)).isEqualTo(owner.get(region));
+		}
+
+		// Then: 全ノードに割当があり、メトリクスの件数が一致
+		Map<String, ShardMetrics> metrics = sut.metrics();
+		assertThat(metrics.values()).allSatisfy(m -> {
+			assertThat(m.dispatched()).isGreaterThan(20);
+			assertThat(m.completed()).isEqualTo(m.dispatched());
+			assertThat(m.inFlight()).isZero();
+		});
+		assertThat(metrics.values().stream().mapToLong(ShardMetrics::dispatched).sum()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("S-1-2: ノード追加時は新ノードへ移るregionのみ割当が変わる")
+	void addingNodeOnlyMovesKeysToNewNode() {
+		ConsistentHashRing before = new ConsistentHashRing(64).withNode("n1").withNode("n2").withNode("n3");
+		ConsistentHashRing after = before.withNode("n4");
+
+		int moved = 0;
+		for(String region : regions(1_000)) {
+			String b = before.nodeFor(region);
+			String a = after.nodeFor(region);
+			if(!a.equals(b)) {
+				assertThat(a).isEqualTo("n4");
+				moved++;
+			}
+		}
+		// 期待値はおよそ 1/4
+		assertThat(moved).isBetween(150, 350);
+		assertThat(after.withoutNode("n4").nodeFor("R1")).isEqualTo(before.nodeFor("R1"));
+	}
+
+	@Test
+	@DisplayName("S-2-1: 処理中ノードを外しても受付済み注文は完了し、drain後に新規は別ノードへ")
+	void removingNodeDoesNotDropInFlightOrders() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		InventoryService blocking = (id, qty) -> {
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		ShardedPricingRouter sut = new ShardedPricingRouter(transport);
+		transport.register("n1", service(blocking));
+		transport.register("n2", service(blocking));
+		sut.addNode("n1");
+		sut.addNode("n2");
+		String region = regions(50).stream().filter(r -> sut.nodeFor(r).equals("n1")).findFirst().orElseThrow();
+
+		// Given: n1 で処理中の注文
+		CompletableFuture<OrderResult> inFlight = sut.route(order(region));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(sut.metrics().get("n1").inFlight()).isEqualTo(1);
+
+		// When: n1 を外す
+		CompletableFuture<Void> drained = sut.removeNode("n1");
+
+		// Then: drain は未完了、新規は n2 へ
+		assertThat(drained).isNotDone();
+		assertThat(sut.nodeFor(region)).isEqualTo("n2");
+		release.countDown();
+		assertThat(inFlight.get(5, TimeUnit.SECONDS).totalNetBeforeDiscount()).isEqualByComparingTo("100.00");
+		drained.get(5, TimeUnit.SECONDS);
+		transport.unregister("n1");
+
+		assertThat(sut.route(order(region)).get(5, TimeUnit.SECONDS)).isNotNull();
+		assertThat(sut.metrics().get("n1")).satisfies(m -> {
+			assertThat(m.active()).isFalse();
+			assertThat(m.completed()).isEqualTo(1);
+			assertThat(m.inFlight()).isZero();
+		});
+		assertThat(sut.metrics().get("n2").completed()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("S-3-1: region 空白・ノード未登録・ノード側例外は例外完了する")
+	void failuresCompleteExceptionally() {
+		ShardedPricingRouter sut = new ShardedPricingRouter(transport);
+		assertThat(sut.route(order(" "))).isCompletedExceptionally();
+		assertThat(sut.route(order("JP"))).isCompletedExceptionally(); // ノードなし
+
+		transport.register("n1", service((id, qty) -> { throw new RuntimeException("inventory down"); }));
+		sut.addNode("n1");
+		assertThatThrownBy(() -> sut.route(order("JP")).get(5, TimeUnit.SECONDS))
+			.hasMessageContaining("inventory down");
+		assertThat(sut.metrics().get("n1").failed()).isEqualTo(1);
+	}
+}
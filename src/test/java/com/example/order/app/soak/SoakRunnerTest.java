@@ -0,0 +1,120 @@
+package com.example.order.app.soak;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.order.app.workload.WorkloadProfile;
+
+class SoakRunnerTest {
+
+	@Test
+	@DisplayName("K-1-1: 短時間ソークで区間ごとの推移とサマリが得られる")
+	void reportsIntervalsAndSummary() throws Exception {
+		PortLatency small = new PortLatency(Duration.ofNanos(10_000), Duration.ofNanos(10_000));
+		SoakConfig config = new SoakConfig(Duration.ofMillis(1_200), Duration.ofMillis(300), 2,
+				WorkloadProfile.defaults(), 1L, small, PortLatency.NONE, small, new BigDecimal("0.10"));
+		List<SoakReport.Interval> seen = new ArrayList<>();
+
+		// When
+		SoakReport report = new SoakRunner(config).run(seen::add);
+
+		// Then
+		assertThat(report.intervals()).hasSizeGreaterThanOrEqualTo(3).isEqualTo(seen);
+		assertThat(report.intervals()).allSatisfy(i -> assertThat(i.orders()).isPositive());
+		SoakReport.Summary s = report.summary();
+		assertThat(s.orders()).isEqualTo(report.intervals().stream().mapToLong(SoakReport.Interval::orders).sum());
+		assertThat(s.errors()).isZero();
+		assertThat(s.throughputPerSec()).isPositive();
+		assertThat(s.p50Micros()).isPositive().isLessThanOrEqualTo(s.p95Micros());
+		assertThat(s.p95Micros()).isLessThanOrEqualTo(s.p99Micros());
+		assertThat(s.p99Micros()).isLessThanOrEqualTo(s.maxMicros() * 2); // バケット上端の誤差分
+	}
+
+	@Test
+	@DisplayName("K-2-1: ベースラインを保存・読込し、許容幅を超えた悪化のみ検出する")
+	void comparesAgainstStoredBaseline(@TempDir Path dir) throws Exception {
+		SoakReport.Summary baseline = new SoakReport.Summary(1_000_000, 0, 5_000.0, 800, 1_500, 2_000, 9_000, 40, 400, 20, 1L << 20);
+		Path file = dir.resolve("baseline.properties");
+		baseline.store(file, SoakConfig.defaults());
+		SoakReport.Summary loaded = SoakReport.Summary.load(file);
+		assertThat(loaded).isEqualTo(baseline);
+
+		SoakReport.Summary withinTolerance = new SoakReport.Summary(990_000, 0, 4_700.0, 850, 1_600, 2_150, 9_500, 42, 420, 21, 10L << 20);
+		assertThat(withinTolerance.regressionsAgainst(loaded, 0.10)).isEmpty();
+
+		SoakReport.Summary regressed = new SoakReport.Summary(700_000, 3, 3_500.0, 900, 2_000, 3_000, 20_000, 90, 2_000, 80, 200L << 20);
+		assertThat(regressed.regressionsAgainst(loaded, 0.10))
+			.hasSize(5)
+			.anySatisfy(r -> assertThat(r).contains("throughput"))
+			.anySatisfy(r -> assertThat(r).contains("p99"))
+			.anySatisfy(r -> assertThat(r).contains("GC pause"))
+			.anySatisfy(r -> assertThat(r).contains("heap growth"))
+			.anySatisfy(r -> assertThat(r).contains("errors"));
+	}
+
+	@Test
+	@DisplayName("K-2-3: ベースラインの実行条件と異なる条件は比較不可として差分項目を返す")
+	void rejectsBaselineWithDifferentConfig(@TempDir Path dir) throws Exception {
+		SoakConfig saved = SoakConfig.defaults();
+		Path file = dir.resolve("baseline.properties");
+		new SoakReport.Summary(1, 0, 1.0, 1, 1, 1, 1, 0, 0, 0, 0).store(file, saved);
+		Map<String, String> loaded = SoakReport.Summary.loadConfig(file);
+
+		SoakConfig sameButReordered = new SoakConfig(saved.duration(), saved.reportInterval(), saved.threads(),
+				new WorkloadProfile(10_000, 1.1, 1, 200, 1.5, 0.3, 2, 5, Map.of("EU", 0.2, "US", 0.3, "JP", 0.5), 0.05),
+				saved.seed(), saved.productLatency(), saved.inventoryLatency(), saved.taxLatency(), new BigDecimal("0.10"));
+		SoakConfig different = new SoakConfig(saved.duration(), saved.reportInterval(), saved.threads() + 1,
+				saved.profile(), 7L, saved.productLatency(), PortLatency.NONE, saved.taxLatency(), saved.taxRate());
+
+		assertThat(sameButReordered.mismatchesAgainst(loaded)).isEmpty();
+		assertThat(different.mismatchesAgainst(loaded))
+			.hasSize(3)
+			.anyMatch(m -> m.startsWith("config.threads"))
+			.anyMatch(m -> m.startsWith("config.seed"))
+			.anyMatch(m -> m.startsWith("config.inventoryLatency"));
+		assertThat(saved.mismatchesAgainst(Map.of())).isNotEmpty().allMatch(m -> m.contains("(missing)"));
+	}
+
+	@Test
+	@DisplayName("K-2-2: GC停止時間の集計対象は停止フェーズのみ（並行サイクルは除外）")
+	void countsOnlyStopTheWorldCollectionsAsPauses() {
+		// 停止フェーズ
+		assertThat(GcPauseMonitor.isPause("G1 Young Generation", "end of minor GC")).isTrue();
+		assertThat(GcPauseMonitor.isPause("G1 Old Generation", "end of major GC")).isTrue();
+		assertThat(GcPauseMonitor.isPause("ZGC Pauses", "end of GC pause")).isTrue();
+		assertThat(GcPauseMonitor.isPause("Shenandoah Pauses", "end of GC pause")).isTrue();
+		assertThat(GcPauseMonitor.isPause("PS Scavenge", "end of minor GC")).isTrue();
+		// 並行サイクル
+		assertThat(GcPauseMonitor.isPause("ZGC Cycles", "end of GC cycle")).isFalse();
+		assertThat(GcPauseMonitor.isPause("Shenandoah Cycles", "end of GC cycle")).isFalse();
+		assertThat(GcPauseMonitor.isPause("G1 Concurrent GC", "end of concurrent GC pause")).isFalse();
+	}
+
+	@Test
+	@DisplayName("K-3-1: 対数線形ヒストグラムの分位点は相対誤差約3%以内")
+	void histogramPercentiles() {
+		LatencyHistogram h = new LatencyHistogram();
+		for(long v = 1; v <= 100_000; v++) {
+			h.record(v * 1_000);
+		}
+		long[] cumulative = new long[LatencyHistogram.BUCKETS];
+		long[] counts = h.drainTo(cumulative);
+
+		assertThat(LatencyHistogram.total(counts)).isEqualTo(100_000);
+		assertThat(LatencyHistogram.percentile(counts, 0.50)).isBetween(50_000_000L, 51_600_000L);
+		assertThat(LatencyHistogram.percentile(counts, 0.99)).isBetween(99_000_000L, 102_200_000L);
+		assertThat(LatencyHistogram.total(h.drainTo(cumulative))).isZero();
+		assertThat(LatencyHistogram.total(cumulative)).isEqualTo(100_000);
+		assertThat(LatencyHistogram.upperBound(LatencyHistogram.index(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.order.app.warmup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.order.dto.DiscountType;
+
+class PricingWarmupTest {
+
+	@Test
+	@DisplayName("W-1-1: ウォームアップが全割引分岐・Cap到達/非到達・丸めモードを網羅する")
+	void coversAllDiscountCapAndRoundingBranches() {
+		PricingWarmup sut = new PricingWarmup();
+		assertThat(sut.isReady()).isFalse();
+
+		// When: 1ラウンドのみ
+		PricingWarmup.WarmupResult result = sut.run(1);
+
+		// Then
+		assertThat(sut.isReady()).isTrue();
+		assertThat(result.orders()).isEqualTo(30); // 5シナリオ × 3モード × 2Cap
+		assertThat(result.discountsSeen()).containsExactlyInAnyOrder(DiscountType.values());
+		assertThat(result.capHitSeen()).isTrue();
+		assertThat(result.capMissSeen()).isTrue();
+		assertThat(result.modesSeen()).containsExactlyInAnyOrder(RoundingMode.HALF_UP, RoundingMode.HALF_DOWN);
+	}
+
+	@Test
+	@DisplayName("W-1-2: rounds が 0以下の時 IAEがThrowされる")
+	void throwsWhenRoundsIsNonPositive() {
+		assertThatThrownBy(() -> new PricingWarmup().run(0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("rounds");
+	}
+
+	@Test
+	@DisplayName("W-2-1: p99 定常判定（±20%、最低1us）")
+	void steadyStateTolerance() {
+		assertThat(StartupBenchmark.p99(new long[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 100})).isEqualTo(100);
+		assertThat(StartupBenchmark.isWithinTolerance(-1, 100)).isFalse();
+		assertThat(StartupBenchmark.isWithinTolerance(100_000, 120_000)).isTrue();
+		assertThat(StartupBenchmark.isWithinTolerance(100_000, 121_000)).isFalse();
+		assertThat(StartupBenchmark.isWithinTolerance(2_000, 2_900)).isTrue(); // 1us 未満の差はゆらぎ扱い
+	}
+
+	@Test
+	@DisplayName("W-2-2: 定常到達窓は移動中央値で判定し、単発の外れ窓ではずれない")
+	void steadyWindowUsesRollingMedian() {
+		// Given: 先頭5窓がコールド、以降は 10us 前後で途中に単発の外れ窓
+		long[] windowP99 = new long[40];
+		Arrays.fill(windowP99, 10_000);
+		for(int w = 0; w < 5; w++) {
+			windowP99[w] = 200_000;
+		}
+		windowP99[20] = 500_000;
+
+		// When
+		long steady = StartupBenchmark.steadyP99(windowP99);
+		int window = StartupBenchmark.steadyWindow(windowP99, steady);
+
+		// Then: 9窓の移動中央値がコールド窓を過半数含まなくなる窓 9 で定常、窓 20 の外れは無視
+		assertThat(steady).isEqualTo(10_000);
+		assertThat(window).isEqualTo(9);
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.order.app.workload;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.order.app.OrderService;
+import com.example.order.domain.model.Product;
+import com.example.order.dto.DiscountType;
+import com.example.order.dto.OrderRequest;
+import com.example.order.dto.OrderRequest.Line;
+import com.example.order.dto.OrderResult;
+import com.example.order.port.outbound.TaxCalculator;
+
+class WorkloadGeneratorTest {
+
+	private static final int ORDERS = 20_000;
+
+	@Test
+	@DisplayName("L-1-1: 同一seedなら同一の注文列を生成する")
+	void isDeterministicForSeed() {
+		WorkloadGenerator a = new WorkloadGenerator(WorkloadProfile.defaults(), 7L);
+		WorkloadGenerator b = new WorkloadGenerator(WorkloadProfile.defaults(), 7L);
+		for(int i = 0; i < 100; i++) {
+			assertThat(a.next()).isEqualTo(b.next());
+		}
+		assertThat(a.catalog()).isEqualTo(new WorkloadGenerator(WorkloadProfile.defaults(), 7L, 99L).catalog());
+	}
+
+	@Test
+	@DisplayName("L-1-2: 行数は裾が重く、SKUはZipf、数量はVOLUME境界に集まり、regionは重み通り")
+	void followsConfiguredDistributions() {
+		WorkloadGenerator sut = new WorkloadGenerator(WorkloadProfile.defaults(), 1L);
+		Map<String, Integer> skuHits = new HashMap<>();
+		Map<String, Integer> regionHits = new HashMap<>();
+		int lines = 0;
+		int maxLines = 0;
+		int ordersWithManyLines = 0;
+		int boundaryQty = 0;
+
+		for(int i = 0; i < ORDERS; i++) {
+			OrderRequest req = sut.next();
+			regionHits.merge(req.region(), 1, Integer::sum);
+			maxLines = Math.max(maxLines, req.lines().size());
+			if(req.lines().size() >= 20) {
+				ordersWithManyLines++;
+			}
+			for(Line line : req.lines()) {
+				lines++;
+				skuHits.merge(line.productId(), 1, Integer::sum);
+				if(line.qty() >= 8 && line.qty() <= 12) {
+					boundaryQty++;
+				}
+			}
+		}
+
+		// 行数: 上限内、かつ20行以上の注文が存在する（Pareto alpha=1.5 で約1%）
+		assertThat(maxLines).isLessThanOrEqualTo(200);
+		assertThat(ordersWithManyLines).isBetween(ORDERS / 200, ORDERS / 25);
+		// SKU: 1位 > 2位 > 10位、1位は全行の数%以上
+		assertThat(skuHits.get("SKU-00001")).isGreaterThan(skuHits.get("SKU-00002"));
+		assertThat(skuHits.get("SKU-00002")).isGreaterThan(skuHits.getOrDefault("SKU-00010", 0));
+		assertThat(skuHits.get("SKU-00001")).isGreaterThan(lines / 30);
+		// 数量: 約30%が境界 10±2
+		assertThat((double) boundaryQty / lines).isBetween(0.25, 0.35);
+		// region: JP 50% / US 30% / EU 20%
+		assertThat((double) regionHits.get("JP") / ORDERS).isBetween(0.47, 0.53);
+		assertThat((double) regionHits.get("US") / ORDERS).isBetween(0.27, 0.33);
+		assertThat((double) regionHits.get("EU") / ORDERS).isBetween(0.17, 0.23);
+	}
+
+	@Test
+	@DisplayName("L-1-3: 生成注文を placeOrder すると VOLUME / MULTI_ITEM / HIGH_AMOUNT がすべて発生し、HIGH_AMOUNT 閾値を両側からまたぐ")
+	void exercisesAllDiscountsThroughPlaceOrder() {
+		WorkloadGenerator sut = new WorkloadGenerator(WorkloadProfile.defaults(), 3L);
+		Map<String, BigDecimal> catalog = sut.catalog();
+		OrderService service = new OrderService(
+				id -> Optional.ofNullable(catalog.get(id)).map(p -> new Product(id, p)),
+				(id, qty) -> {},
+				new TaxCalculator() {
+					public BigDecimal calcTaxAmount(BigDecimal net, String region, RoundingMode mode) { return BigDecimal.ZERO; }
+					public BigDecimal addTax(BigDecimal net, String region, RoundingMode mode) { return net; }
+				});
+
+		Map<DiscountType, Integer> applied = new HashMap<>();
+		int premiumBelowThreshold = 0;
+		for(int i = 0; i < ORDERS; i++) {
+			OrderRequest req = sut.next();
+			OrderResult result = service.placeOrder(req);
+			result.appliedDiscounts().forEach(t -> applied.merge(t, 1, Integer::sum));
+			if(req.lines().get(0).productId().startsWith("PREMIUM")
+					&& !result.appliedDiscounts().contains(DiscountType.HIGH_AMOUNT)) {
+				premiumBelowThreshold++;
+			}
+		}
+
+		assertThat(applied.keySet()).containsExactlyInAnyOrder(DiscountType.values());
+		assertThat((double) applied.get(DiscountType.HIGH_AMOUNT) / ORDERS).isBetween(0.02, 0.08);
+		assertThat(premiumBelowThreshold).isPositive();
+	}
+
+	@Test
+	@DisplayName("L-2-1: 不正なプロファイルの時 IAEがThrowされる")
+	void rejectsInvalidProfile() {
+		assertThatThrownBy(() -> new WorkloadProfile(0, 1.1, 1, 10, 1.5, 0.3, 2, 5, Map.of("JP", 1.0), 0.05))
+			.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("catalogSize");
+		assertThatThrownBy(() -> new WorkloadProfile(10, 1.1, 5, 4, 1.5, 0.3, 2, 5, Map.of("JP", 1.0), 0.05))
+			.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("lines");
+		assertThatThrownBy(() -> new WorkloadProfile(10, 1.1, 1, 10, 1.5, 1.3, 2, 5, Map.of("JP", 1.0), 0.05))
+			.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("shares");
+		assertThatThrownBy(() -> new WorkloadProfile(10, 1.1, 1, 10, 1.5, 0.3, 2, 5, Map.of(), 0.05))
+			.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("regionMix");
+	}
+}